@@ -0,0 +1,17 @@
+package gregtech.api.worldgen.config;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Registers vein definitions for benchmarks through the same path as worldgen config files,
+ * since benchmarks run without mod loader and its config folder
+ */
+public class BenchmarkVeinDefinitions {
+
+    private BenchmarkVeinDefinitions() {
+    }
+
+    public static void addVeinDefinition(String depositName, JsonObject config) {
+        WorldGenRegistry.INSTANCE.addVeinDefinition(depositName, config);
+    }
+}
@@ -0,0 +1,52 @@
+package gregtech.benchmark;
+
+import gregtech.api.GTValues;
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.api.worldgen.filler.SimpleBlockFiller;
+import gregtech.api.worldgen.shape.EllipsoidGenerator;
+import gregtech.api.worldgen.shape.PlateGenerator;
+import gregtech.api.worldgen.shape.SingleBlockGenerator;
+import gregtech.api.worldgen.shape.SphereGenerator;
+import net.minecraft.init.Bootstrap;
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Initializes vanilla registries without starting Minecraft client or server,
+ * so benchmarks can operate on real blocks, items and fluids headless
+ */
+public class BenchmarkBootstrap {
+
+    private static boolean vanillaInitialized = false;
+    private static boolean worldgenInitialized = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void initializeVanilla() {
+        if(vanillaInitialized)
+            return;
+        if(GTLog.logger == null) {
+            GTLog.init(LogManager.getLogger(GTValues.MODID));
+        }
+        Bootstrap.register();
+        vanillaInitialized = true;
+    }
+
+    /**
+     * Registers standard shape generators and block fillers,
+     * since WorldGenRegistry.initializeRegistry requires mod loader to be present
+     */
+    public static synchronized void initializeWorldgen() {
+        initializeVanilla();
+        if(worldgenInitialized)
+            return;
+        WorldGenRegistry registry = WorldGenRegistry.INSTANCE;
+        registry.registerShapeGenerator("ellipsoid", EllipsoidGenerator::new);
+        registry.registerShapeGenerator("sphere", SphereGenerator::new);
+        registry.registerShapeGenerator("plate", PlateGenerator::new);
+        registry.registerShapeGenerator("single", SingleBlockGenerator::new);
+        registry.registerBlockFiller("simple", SimpleBlockFiller::new);
+        worldgenInitialized = true;
+    }
+}
@@ -0,0 +1,169 @@
+package gregtech.benchmark;
+
+import gregtech.api.multiblock.BlockPattern;
+import gregtech.api.multiblock.BlockPattern.RelativeDirection;
+import gregtech.api.multiblock.BlockWorldState;
+import gregtech.api.multiblock.FactoryBlockPattern;
+import gregtech.api.util.world.DummyWorld;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures BlockPattern.checkPatternAt on structures placed into DummyWorld in every horizontal facing.
+ * Structure shapes mirror electric blast furnace and large boiler, with casings replaced by vanilla blocks.
+ * Every invocation checks one structure per facing, so throughput is reported as 4 checks per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockPatternBenchmark {
+
+    private static final RelativeDirection[] STRUCTURE_DIR = {RelativeDirection.RIGHT, RelativeDirection.UP, RelativeDirection.BACK};
+    private static final char CENTER_SYMBOL = 'S';
+
+    @Param({"electric_blast_furnace", "large_boiler"})
+    public String structure;
+
+    private World world;
+    private BlockPattern blockPattern;
+    private BlockPos[] formedCenters;
+    private BlockPos[] brokenCenters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.initializeVanilla();
+        String[][] aisles;
+        Map<Character, IBlockState> symbolStates = new HashMap<>();
+        symbolStates.put(CENTER_SYMBOL, Blocks.LAPIS_BLOCK.getDefaultState());
+        switch (structure) {
+            case "electric_blast_furnace":
+                aisles = new String[][] {
+                    {"XXX", "CCC", "CCC", "XXX"},
+                    {"XXX", "C#C", "C#C", "XXX"},
+                    {"XSX", "CCC", "CCC", "XXX"}};
+                symbolStates.put('X', Blocks.IRON_BLOCK.getDefaultState());
+                symbolStates.put('C', Blocks.GOLD_BLOCK.getDefaultState());
+                symbolStates.put('#', Blocks.AIR.getDefaultState());
+                break;
+            case "large_boiler":
+                aisles = new String[][] {
+                    {"XXX", "CCC", "CCC", "CCC"},
+                    {"XXX", "CPC", "CPC", "CCC"},
+                    {"XXX", "CSC", "CCC", "CCC"}};
+                symbolStates.put('X', Blocks.BRICK_BLOCK.getDefaultState());
+                symbolStates.put('C', Blocks.IRON_BLOCK.getDefaultState());
+                symbolStates.put('P', Blocks.IRON_BARS.getDefaultState());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown structure: " + structure);
+        }
+        this.blockPattern = createPattern(aisles, symbolStates);
+        this.world = new DummyWorld();
+
+        EnumFacing[] facings = EnumFacing.HORIZONTALS;
+        this.formedCenters = new BlockPos[facings.length];
+        this.brokenCenters = new BlockPos[facings.length];
+        for(int i = 0; i < facings.length; i++) {
+            this.formedCenters[i] = new BlockPos(i * 32, 64, 0);
+            this.brokenCenters[i] = new BlockPos(i * 32, 64, 32);
+            placeStructure(aisles, symbolStates, formedCenters[i], facings[i], false);
+            placeStructure(aisles, symbolStates, brokenCenters[i], facings[i], true);
+            if(blockPattern.checkPatternAt(world, formedCenters[i], facings[i]) == null)
+                throw new IllegalStateException("Placed structure doesn't match pattern for facing " + facings[i]);
+        }
+    }
+
+    @Benchmark
+    public void checkFormedStructure(Blackhole blackhole) {
+        EnumFacing[] facings = EnumFacing.HORIZONTALS;
+        for(int i = 0; i < facings.length; i++) {
+            blackhole.consume(blockPattern.checkPatternAt(world, formedCenters[i], facings[i]));
+        }
+    }
+
+    @Benchmark
+    public void checkBrokenStructure(Blackhole blackhole) {
+        EnumFacing[] facings = EnumFacing.HORIZONTALS;
+        for(int i = 0; i < facings.length; i++) {
+            blackhole.consume(blockPattern.checkPatternAt(world, brokenCenters[i], facings[i]));
+        }
+    }
+
+    private static BlockPattern createPattern(String[][] aisles, Map<Character, IBlockState> symbolStates) {
+        FactoryBlockPattern factoryPattern = FactoryBlockPattern.start(STRUCTURE_DIR[0], STRUCTURE_DIR[1], STRUCTURE_DIR[2]);
+        for(String[] aisle : aisles) {
+            factoryPattern.aisle(aisle);
+        }
+        for(Map.Entry<Character, IBlockState> entry : symbolStates.entrySet()) {
+            IBlockState blockState = entry.getValue();
+            Predicate<BlockWorldState> predicate = worldState -> worldState.getBlockState() == blockState;
+            factoryPattern.where(entry.getKey(), entry.getKey() == CENTER_SYMBOL ? BlockWorldState.wrap(predicate) : predicate);
+        }
+        return factoryPattern.build();
+    }
+
+    /**
+     * Places structure blocks the same way BlockPattern resolves relative offsets,
+     * optionally leaving last block missing so pattern check fails as late as possible
+     */
+    private void placeStructure(String[][] aisles, Map<Character, IBlockState> symbolStates, BlockPos centerPos, EnumFacing facing, boolean leaveLastBlock) {
+        int[] center = findCenter(aisles);
+        BlockPos lastPos = null;
+        for(int c = 0; c < aisles.length; c++) {
+            for(int b = 0; b < aisles[c].length; b++) {
+                for(int a = 0; a < aisles[c][b].length(); a++) {
+                    BlockPos blockPos = centerPos.add(getActualRelativeOffset(a - center[0], b - center[1], c - center[2], facing));
+                    char symbol = aisles[c][b].charAt(a);
+                    world.setBlockState(blockPos, symbolStates.get(symbol));
+                    if(symbol != CENTER_SYMBOL) {
+                        lastPos = blockPos;
+                    }
+                }
+            }
+        }
+        if(leaveLastBlock && lastPos != null) {
+            world.setBlockToAir(lastPos);
+        }
+    }
+
+    private static int[] findCenter(String[][] aisles) {
+        for(int c = 0; c < aisles.length; c++) {
+            for(int b = 0; b < aisles[c].length; b++) {
+                int a = aisles[c][b].indexOf(CENTER_SYMBOL);
+                if(a != -1) {
+                    return new int[] {a, b, c};
+                }
+            }
+        }
+        throw new IllegalArgumentException("Structure doesn't contain center symbol");
+    }
+
+    private static BlockPos getActualRelativeOffset(int x, int y, int z, EnumFacing facing) {
+        int[] c0 = new int[] {x, y, z}, c1 = new int[3];
+        for(int i = 0; i < 3; i++) {
+            switch (STRUCTURE_DIR[i].getActualFacing(facing)) {
+                case UP: c1[1] = c0[i]; break;
+                case DOWN: c1[1] = -c0[i]; break;
+                case WEST: c1[0] = -c0[i]; break;
+                case EAST: c1[0] = c0[i]; break;
+                case NORTH: c1[2] = -c0[i]; break;
+                case SOUTH: c1[2] = c0[i]; break;
+            }
+        }
+        return new BlockPos(c1[0], c1[1], c1[2]);
+    }
+
+}
@@ -0,0 +1,133 @@
+package gregtech.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import gregtech.api.util.world.DummyWorld;
+import gregtech.api.worldgen.config.BenchmarkVeinDefinitions;
+import gregtech.api.worldgen.generator.CachedGridEntry;
+import gregtech.api.worldgen.generator.WorldGeneratorImpl;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ore vein generation of CachedGridEntry and population of generated veins into DummyWorld chunks.
+ * Builtin vein definitions reference GregTech ore blocks, so synthetic veins of every shape type
+ * with vanilla ores are registered instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedGridEntryBenchmark {
+
+    private static final String[] ORE_BLOCKS = {"minecraft:iron_ore", "minecraft:gold_ore", "minecraft:coal_ore",
+        "minecraft:redstone_ore", "minecraft:lapis_ore", "minecraft:diamond_ore"};
+    private static final int GRID_ENTRIES = 64;
+    private static boolean veinsRegistered = false;
+
+    private World world;
+    private CachedGridEntry[] gridEntries;
+    private int gridIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.initializeWorldgen();
+        registerBenchmarkVeins();
+        this.world = new DummyWorld();
+        this.gridEntries = new CachedGridEntry[GRID_ENTRIES];
+        for(int i = 0; i < GRID_ENTRIES; i++) {
+            this.gridEntries[i] = new CachedGridEntry(world, getGridX(i), getGridZ(i));
+        }
+    }
+
+    @Benchmark
+    public CachedGridEntry generateVeins() {
+        int index = gridIndex++;
+        return new CachedGridEntry(world, getGridX(index), getGridZ(index));
+    }
+
+    @Benchmark
+    public void populateGridChunks(Blackhole blackhole) {
+        int index = gridIndex++ & (GRID_ENTRIES - 1);
+        CachedGridEntry gridEntry = gridEntries[index];
+        int startChunkX = getGridX(index) * WorldGeneratorImpl.GRID_SIZE_X;
+        int startChunkZ = getGridZ(index) * WorldGeneratorImpl.GRID_SIZE_Z;
+        for(int chunkX = 0; chunkX < WorldGeneratorImpl.GRID_SIZE_X; chunkX++) {
+            for(int chunkZ = 0; chunkZ < WorldGeneratorImpl.GRID_SIZE_Z; chunkZ++) {
+                gridEntry.populateChunk(world, startChunkX + chunkX, startChunkZ + chunkZ);
+            }
+        }
+        blackhole.consume(gridEntry);
+    }
+
+    private static int getGridX(int index) {
+        return (index & 0xFFFF) % 32;
+    }
+
+    private static int getGridZ(int index) {
+        return (index & 0xFFFF) / 32;
+    }
+
+    static synchronized void registerBenchmarkVeins() {
+        if(veinsRegistered)
+            return;
+        JsonObject ellipsoid = new JsonObject();
+        ellipsoid.addProperty("type", "ellipsoid");
+        ellipsoid.add("radius", createRange(8, 14));
+        JsonObject sphere = new JsonObject();
+        sphere.addProperty("type", "sphere");
+        sphere.add("radius", createRange(4, 8));
+        JsonObject plate = new JsonObject();
+        plate.addProperty("type", "plate");
+        plate.add("length", createRange(16, 32));
+        plate.add("depth", createRange(16, 32));
+        plate.add("height", createRange(4, 8));
+        JsonObject single = new JsonObject();
+        single.addProperty("type", "single");
+        single.addProperty("blocks_count", 6);
+
+        JsonObject[] generators = {ellipsoid, sphere, plate, single};
+        for(int i = 0; i < ORE_BLOCKS.length; i++) {
+            JsonObject veinConfig = createVeinConfig(generators[i % generators.length], ORE_BLOCKS[i], i);
+            BenchmarkVeinDefinitions.addVeinDefinition("benchmark/vein_" + i, veinConfig);
+        }
+        veinsRegistered = true;
+    }
+
+    private static JsonObject createVeinConfig(JsonObject generator, String oreBlock, int index) {
+        JsonObject veinConfig = new JsonObject();
+        veinConfig.addProperty("weight", 10 + index * 5);
+        veinConfig.addProperty("density", 0.3f + 0.1f * (index % 4));
+        veinConfig.addProperty("min_height", 10 + index * 4);
+        veinConfig.addProperty("max_height", 60 + index * 4);
+        veinConfig.add("generator", generator);
+
+        JsonObject filler = new JsonObject();
+        filler.addProperty("type", "simple");
+        filler.addProperty("value", "block:" + oreBlock);
+        veinConfig.add("filler", filler);
+
+        //DummyWorld chunks start empty, and already populated blocks should pass predicate on repeated runs too
+        JsonArray generationPredicate = new JsonArray();
+        generationPredicate.add("block:minecraft:air");
+        generationPredicate.add("block:minecraft:stone");
+        for(String otherOreBlock : ORE_BLOCKS) {
+            generationPredicate.add("block:" + otherOreBlock);
+        }
+        veinConfig.add("generation_predicate", generationPredicate);
+        return veinConfig;
+    }
+
+    private static JsonArray createRange(int min, int max) {
+        JsonArray range = new JsonArray();
+        range.add(min);
+        range.add(max);
+        return range;
+    }
+
+}
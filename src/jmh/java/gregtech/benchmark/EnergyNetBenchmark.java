@@ -0,0 +1,125 @@
+package gregtech.benchmark;
+
+import gregtech.common.cable.RoutePath;
+import gregtech.common.cable.WireProperties;
+import gregtech.common.cable.net.EnergyNet;
+import gregtech.common.cable.net.WorldENet;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures EnergyNet.computePatches on synthetic flat cable grids.
+ * Grid is a square mesh of cables where every ACTIVE_NODE_INTERVAL-th node is connected to machine.
+ * Cold case computes routes from scratch and is comparable with old per-call DFS,
+ * warm case returns routes already cached for the source node.
+ * Also measures incremental route updates when single node is attached or activated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnergyNetBenchmark {
+
+    private static final int ACTIVE_NODE_INTERVAL = 97;
+    private static final int SOURCE_COUNT = 16;
+
+    @Param({"1000", "10000", "100000"})
+    public int nodeCount;
+
+    private WorldENet worldENet;
+    private EnergyNet energyNet;
+    private WireProperties attachedWire;
+    private BlockPos[] sources;
+    private BlockPos[] inactiveNodes;
+    private int sourceIndex;
+    private int nodeIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.initializeVanilla();
+        this.worldENet = new WorldENet("gregtech.e_net");
+        this.energyNet = new EnergyNet(worldENet);
+        WireProperties[] wireTypes = {
+            new WireProperties(32, 1, 1),
+            new WireProperties(128, 2, 2),
+            new WireProperties(512, 4, 1)};
+        int gridSize = (int) Math.ceil(Math.sqrt(nodeCount));
+        List<BlockPos> activeNodes = new ArrayList<>();
+        for(int i = 0; i < nodeCount; i++) {
+            BlockPos nodePos = new BlockPos(i % gridSize, 64, i / gridSize);
+            energyNet.addNode(nodePos, wireTypes[i % wireTypes.length], 0);
+            if(i % ACTIVE_NODE_INTERVAL == 0) {
+                energyNet.markNodeAsActive(nodePos);
+                activeNodes.add(nodePos);
+            }
+        }
+        Random random = new Random(nodeCount);
+        this.sources = new BlockPos[SOURCE_COUNT];
+        for(int i = 0; i < SOURCE_COUNT; i++) {
+            this.sources[i] = activeNodes.get(random.nextInt(activeNodes.size()));
+            //warm up routes, so incremental updates have something to update
+            energyNet.computePatches(sources[i]);
+        }
+        this.inactiveNodes = new BlockPos[SOURCE_COUNT];
+        for(int i = 0; i < SOURCE_COUNT; i++) {
+            int index = i * (nodeCount / SOURCE_COUNT) + 1;
+            if(index % ACTIVE_NODE_INTERVAL == 0) {
+                index++; //node should be inactive initially
+            }
+            this.inactiveNodes[i] = new BlockPos(index % gridSize, 64, index / gridSize);
+        }
+        this.attachedWire = wireTypes[0];
+    }
+
+    @Benchmark
+    public List<RoutePath> computePatchesCold(ColdRoutes coldRoutes) {
+        BlockPos source = sources[sourceIndex++ & (SOURCE_COUNT - 1)];
+        return coldRoutes.energyNet.computePatches(source);
+    }
+
+    @Benchmark
+    public List<RoutePath> computePatchesWarm() {
+        BlockPos source = sources[sourceIndex++ & (SOURCE_COUNT - 1)];
+        return energyNet.computePatches(source);
+    }
+
+    @Benchmark
+    public void addAndRemoveNode() {
+        BlockPos gridNode = inactiveNodes[nodeIndex++ & (SOURCE_COUNT - 1)];
+        BlockPos attachedNode = gridNode.up();
+        energyNet.addNode(attachedNode, attachedWire, 0);
+        energyNet.removeNode(attachedNode);
+    }
+
+    @Benchmark
+    public void activateAndDeactivateNode() {
+        BlockPos gridNode = inactiveNodes[nodeIndex++ & (SOURCE_COUNT - 1)];
+        energyNet.markNodeAsActive(gridNode);
+        energyNet.markNodeAsInactive(gridNode);
+    }
+
+    /**
+     * Rebuilds energy net from its saved node data before every invocation,
+     * so computePatchesCold always computes routes from scratch
+     */
+    @State(Scope.Thread)
+    public static class ColdRoutes {
+
+        private EnergyNet energyNet;
+
+        @Setup(Level.Invocation)
+        public void rebuildNet(EnergyNetBenchmark benchmark) {
+            this.energyNet = new EnergyNet(benchmark.worldENet);
+            energyNet.deserializeNBT(benchmark.energyNet.serializeNBT());
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package gregtech.benchmark;
+
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.GTValues;
+import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.impl.FilteredFluidHandler;
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.capability.impl.TrackedItemStackHandler;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.RecipeMaps;
+import gregtech.api.util.EnumValidationResult;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.ValidationResult;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recipe lookup over every registered recipe map.
+ * Real recipe loaders require full mod initialization, so every map is filled
+ * with synthetic recipes built from vanilla items and fluids, respecting map input limits.
+ * Run with -prof gc to see allocation rate of the lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeMapBenchmark {
+
+    private static final int PROBES_PER_MAP = 64;
+    private static final int MISSING_ITEM_METADATA = Short.MAX_VALUE - 1;
+
+    @Param({"100", "1000"})
+    public int recipesPerMap;
+
+    private final List<Recipe> addedRecipes = new ArrayList<>();
+    private final Map<Recipe, RecipeMap<?>> recipeMapByRecipe = new IdentityHashMap<>();
+    private RecipeMap<?>[] recipeMaps;
+    private IItemHandlerModifiable[][] matchingItemInputs;
+    private IMultipleTankHandler[][] matchingFluidInputs;
+    private IItemHandlerModifiable[] missingItemInputs;
+    private IMultipleTankHandler[] missingFluidInputs;
+    private int probeIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.initializeVanilla();
+        //noinspection ResultOfMethodCallIgnored
+        RecipeMaps.COMPRESSOR_RECIPES.getUnlocalizedName(); //trigger recipe maps registration
+        List<Item> allItems = new ArrayList<>();
+        for(Item item : Item.REGISTRY) {
+            if(item != Items.AIR) {
+                allItems.add(item);
+            }
+        }
+        List<Fluid> allFluids = new ArrayList<>(FluidRegistry.getRegisteredFluids().values());
+        allFluids.sort(Comparator.comparing(Fluid::getName));
+
+        List<RecipeMap<?>> usableMaps = new ArrayList<>();
+        List<IItemHandlerModifiable[]> matchingItems = new ArrayList<>();
+        List<IMultipleTankHandler[]> matchingFluids = new ArrayList<>();
+        List<IItemHandlerModifiable> missingItems = new ArrayList<>();
+        List<IMultipleTankHandler> missingFluids = new ArrayList<>();
+        Random random = new Random(recipesPerMap);
+
+        for(RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            List<Recipe> mapRecipes = new ArrayList<>();
+            for(int i = 0; i < recipesPerMap; i++) {
+                Recipe recipe = createRecipe(recipeMap, i, allItems, allFluids);
+                recipeMap.addRecipe(new ValidationResult<>(EnumValidationResult.VALID, recipe));
+                recipeMapByRecipe.put(recipe, recipeMap);
+                addedRecipes.add(recipe);
+                mapRecipes.add(recipe);
+            }
+            IItemHandlerModifiable[] itemProbes = new IItemHandlerModifiable[PROBES_PER_MAP];
+            IMultipleTankHandler[] fluidProbes = new IMultipleTankHandler[PROBES_PER_MAP];
+            for(int probe = 0; probe < PROBES_PER_MAP; probe++) {
+                Recipe recipe = mapRecipes.get(random.nextInt(mapRecipes.size()));
+                itemProbes[probe] = createItemInputs(recipeMap, recipe, false);
+                fluidProbes[probe] = createFluidInputs(recipeMap, recipe, false);
+            }
+            IItemHandlerModifiable missingItemProbe = createItemInputs(recipeMap, mapRecipes.get(0), true);
+            IMultipleTankHandler missingFluidProbe = createFluidInputs(recipeMap, mapRecipes.get(0), true);
+            try {
+                recipeMap.findRecipe(GTValues.V[GTValues.MAX], itemProbes[0], fluidProbes[0]);
+                recipeMap.findRecipe(GTValues.V[GTValues.MAX], missingItemProbe, missingFluidProbe);
+            } catch (RuntimeException exception) {
+                //some maps generate recipes on the fly from mod items, which are not registered headless
+                GTLog.logger.warn("Skipping recipe map {} because it requires full mod initialization", recipeMap.getUnlocalizedName(), exception);
+                continue;
+            }
+            usableMaps.add(recipeMap);
+            matchingItems.add(itemProbes);
+            matchingFluids.add(fluidProbes);
+            missingItems.add(missingItemProbe);
+            missingFluids.add(missingFluidProbe);
+        }
+        this.recipeMaps = usableMaps.toArray(new RecipeMap<?>[0]);
+        this.matchingItemInputs = matchingItems.toArray(new IItemHandlerModifiable[0][]);
+        this.matchingFluidInputs = matchingFluids.toArray(new IMultipleTankHandler[0][]);
+        this.missingItemInputs = missingItems.toArray(new IItemHandlerModifiable[0]);
+        this.missingFluidInputs = missingFluids.toArray(new IMultipleTankHandler[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for(Recipe recipe : addedRecipes) {
+            recipeMapByRecipe.get(recipe).removeRecipe(recipe);
+        }
+        addedRecipes.clear();
+        recipeMapByRecipe.clear();
+    }
+
+    @Benchmark
+    public void findRecipeWithMatch(Blackhole blackhole) {
+        int probe = probeIndex++ & (PROBES_PER_MAP - 1);
+        for(int mapIndex = 0; mapIndex < recipeMaps.length; mapIndex++) {
+            blackhole.consume(recipeMaps[mapIndex].findRecipe(GTValues.V[GTValues.MAX],
+                matchingItemInputs[mapIndex][probe], matchingFluidInputs[mapIndex][probe]));
+        }
+    }
+
+    @Benchmark
+    public void findRecipeWithoutMatch(Blackhole blackhole) {
+        for(int mapIndex = 0; mapIndex < recipeMaps.length; mapIndex++) {
+            blackhole.consume(recipeMaps[mapIndex].findRecipe(GTValues.V[GTValues.MAX],
+                missingItemInputs[mapIndex], missingFluidInputs[mapIndex]));
+        }
+    }
+
+    private static Recipe createRecipe(RecipeMap<?> recipeMap, int recipeIndex, List<Item> allItems, List<Fluid> allFluids) {
+        int itemInputs = getInputsCount(recipeMap.getMinInputs(), recipeMap.getMaxInputs(), recipeIndex);
+        int fluidInputs = Math.min(allFluids.size(), getInputsCount(recipeMap.getMinFluidInputs(), recipeMap.getMaxFluidInputs(), recipeIndex));
+        if(itemInputs == 0 && fluidInputs == 0) {
+            if(recipeMap.getMaxInputs() > 0) {
+                itemInputs = 1;
+            } else fluidInputs = Math.min(1, allFluids.size());
+        }
+        List<CountableIngredient> inputs = new ArrayList<>();
+        //metadata makes every recipe unique even if the same items are reused
+        int metadata = recipeIndex / allItems.size();
+        for(int i = 0; i < itemInputs; i++) {
+            Item item = allItems.get((recipeIndex + i * 31) % allItems.size());
+            inputs.add(CountableIngredient.from(new ItemStack(item, 1, metadata), 1 + i));
+        }
+        List<FluidStack> fluidInputList = new ArrayList<>();
+        for(int i = 0; i < fluidInputs; i++) {
+            fluidInputList.add(new FluidStack(allFluids.get(i), 1000 + recipeIndex));
+        }
+        List<ItemStack> outputs = new ArrayList<>();
+        for(int i = 0; i < recipeMap.getMinOutputs(); i++) {
+            outputs.add(new ItemStack(Items.STICK));
+        }
+        List<FluidStack> fluidOutputs = new ArrayList<>();
+        for(int i = 0; i < recipeMap.getMinFluidOutputs(); i++) {
+            fluidOutputs.add(new FluidStack(FluidRegistry.WATER, 1000));
+        }
+        return new Recipe(inputs, outputs, new TObjectIntHashMap<>(), fluidInputList, fluidOutputs,
+            Collections.emptyMap(), 100, 30, false, true, false);
+    }
+
+    private static int getInputsCount(int minInputs, int maxInputs, int recipeIndex) {
+        if(maxInputs <= minInputs)
+            return maxInputs;
+        return minInputs + recipeIndex % (maxInputs - minInputs + 1);
+    }
+
+    private static IItemHandlerModifiable createItemInputs(RecipeMap<?> recipeMap, Recipe recipe, boolean missing) {
+        TrackedItemStackHandler itemHandler = new TrackedItemStackHandler(Math.max(1, recipeMap.getMaxInputs()));
+        List<CountableIngredient> inputs = recipe.getInputs();
+        for(int i = 0; i < inputs.size(); i++) {
+            CountableIngredient ingredient = inputs.get(i);
+            ItemStack itemStack = ingredient.getIngredient().getMatchingStacks()[0].copy();
+            itemStack.setCount(ingredient.getCount());
+            if(missing) {
+                itemStack.setItemDamage(MISSING_ITEM_METADATA);
+            }
+            itemHandler.setStackInSlot(i, itemStack);
+        }
+        return itemHandler;
+    }
+
+    private static IMultipleTankHandler createFluidInputs(RecipeMap<?> recipeMap, Recipe recipe, boolean missing) {
+        List<FilteredFluidHandler> fluidTanks = new ArrayList<>();
+        List<FluidStack> fluidInputs = recipe.getFluidInputs();
+        for(int i = 0; i < recipeMap.getMaxFluidInputs(); i++) {
+            FilteredFluidHandler fluidTank = new FilteredFluidHandler(64000);
+            if(i < fluidInputs.size()) {
+                FluidStack fluidStack = fluidInputs.get(i).copy();
+                if(missing) {
+                    fluidStack.amount = 1;
+                }
+                fluidTank.setFluid(fluidStack);
+            }
+            fluidTanks.add(fluidTank);
+        }
+        return new FluidTankList(fluidTanks);
+    }
+
+}
@@ -0,0 +1,43 @@
+package gregtech.benchmark;
+
+import gregtech.api.util.world.DummyWorld;
+import gregtech.api.worldgen.generator.VeinPlanStatistics;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the same headless vein planning harness as /gregtech worldgen benchmark against DummyWorld,
+ * so vein settings can be compared outside of running server. Reported time is per whole region,
+ * divide it by gridCount squared to compare with command output
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VeinPlanStatisticsBenchmark {
+
+    @Param({"4", "16"})
+    public int gridCount;
+
+    private World world;
+    private int startGridX;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.initializeWorldgen();
+        CachedGridEntryBenchmark.registerBenchmarkVeins();
+        this.world = new DummyWorld();
+    }
+
+    @Benchmark
+    public VeinPlanStatistics planRegion() {
+        //move to next region every time, so results don't depend on a single region
+        this.startGridX += gridCount;
+        return VeinPlanStatistics.collect(world, startGridX, 0, gridCount);
+    }
+
+}
@@ -5,7 +5,9 @@ import crafttweaker.CraftTweakerAPI;
 import gregtech.api.GTValues;
 import gregtech.api.capability.SimpleCapabilityManager;
 import gregtech.api.items.gui.PlayerInventoryUIFactory;
+import gregtech.api.metatileentity.MetaTileEntityTickScheduler;
 import gregtech.api.metatileentity.MetaTileEntityUIFactory;
+import gregtech.api.metatileentity.multiblock.MultiblockStructureTracker;
 import gregtech.api.model.ResourcePackHook;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.recipes.RecipeMap;
@@ -13,7 +15,9 @@ import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.material.Materials;
 import gregtech.api.unification.material.type.Material;
 import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.CompiledBlockStateFunction;
 import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.api.worldgen.generator.GridEntryPlanner;
 import gregtech.common.CommonProxy;
 import gregtech.common.ConfigHolder;
 import gregtech.common.MetaFluids;
@@ -32,9 +36,11 @@ import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fml.common.*;
 import net.minecraftforge.fml.common.Optional.Method;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppedEvent;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 
 @Mod(modid = GTValues.MODID,
@@ -68,6 +74,8 @@ public class GregTechMod {
         PlayerInventoryUIFactory.INSTANCE.init();
         SimpleCapabilityManager.init();
         OreDictUnifier.init();
+        MultiblockStructureTracker.init();
+        MetaTileEntityTickScheduler.init();
         Materials.register();
 
         if(Loader.isModLoaded(GTValues.MODID_CT)) {
@@ -128,8 +136,18 @@ public class GregTechMod {
         gregtechproxy.onPostLoad();
     }
 
+    @Mod.EventHandler
+    public void onModIdMapping(FMLModIdMappingEvent event) {
+        CompiledBlockStateFunction.onBlockIdsChanged();
+    }
+
     @Mod.EventHandler
     public void serverLoad(FMLServerStartingEvent event) {
         event.registerServerCommand(new GregTechCommand());
     }
+
+    @Mod.EventHandler
+    public void onServerStopped(FMLServerStoppedEvent event) {
+        GridEntryPlanner.shutdown();
+    }
 }
\ No newline at end of file
@@ -241,6 +241,20 @@ public class BlockMachine extends Block implements ITileEntityProvider {
         metaTileEntity.onLeftClick(playerIn);
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
+        MetaTileEntity metaTileEntity = getMetaTileEntity(worldIn, pos);
+        if(metaTileEntity == null) return;
+        metaTileEntity.onNeighborChanged(fromPos);
+    }
+
+    @Override
+    public void onNeighborChange(IBlockAccess world, BlockPos pos, BlockPos neighbor) {
+        MetaTileEntity metaTileEntity = getMetaTileEntity(world, pos);
+        if(metaTileEntity == null) return;
+        metaTileEntity.onNeighborChanged(neighbor);
+    }
+
     @Override
     public boolean canConnectRedstone(IBlockState state, IBlockAccess world, BlockPos pos, @Nullable EnumFacing side) {
         MetaTileEntity metaTileEntity = getMetaTileEntity(world, pos);
@@ -0,0 +1,25 @@
+package gregtech.api.capability;
+
+/**
+ * Implemented by inventories which count modifications of their contents,
+ * so consumers can skip expensive work (like recipe search) when nothing changed since last time
+ */
+public interface IModificationTracker {
+
+    /**
+     * Returned by {@link #getModificationCount()} when some of contents can change without being counted
+     */
+    long UNTRACKED = -1L;
+
+    /**
+     * @return amount of modifications made to contents of this inventory so far,
+     * or {@link #UNTRACKED} if modifications can't be tracked reliably
+     */
+    long getModificationCount();
+
+    static long getModificationCount(Object inventory) {
+        return inventory instanceof IModificationTracker ?
+            ((IModificationTracker) inventory).getModificationCount() : UNTRACKED;
+    }
+
+}
@@ -4,6 +4,7 @@ import gregtech.api.capability.IElectricItem;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.metatileentity.MTETrait;
 import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.SyncPolicy;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
@@ -39,6 +40,15 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         this.maxInputAmperage = maxInputAmperage;
         this.maxOutputVoltage = maxOutputVoltage;
         this.maxOutputAmperage = maxOutputAmperage;
+        registerSyncedData(0, createEnergySyncPolicy(), this::getEnergyStored, buf -> buf.writeLong(this.energyStored));
+    }
+
+    private static SyncPolicy createEnergySyncPolicy() {
+        int syncInterval = ConfigHolder.energySyncInterval;
+        //client doesn't need to see small energy fluctuations, but should see actual amount eventually
+        return SyncPolicy.interval(syncInterval)
+            .withRelativeThreshold(0.01, syncInterval * 20)
+            .onlyWhenWatched();
     }
 
     public void setSideInputCondition(Predicate<EnumFacing> sideInputCondition) {
@@ -89,7 +99,10 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         this.energyStored = energyStored;
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
-            writeCustomData(0, buf -> buf.writeLong(energyStored));
+            markSyncedDataDirty(0);
+            if(!isIdle()) {
+                metaTileEntity.wakeUp();
+            }
         }
     }
 
@@ -151,6 +164,12 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //nothing can be output until container gets enough energy
+        return getOutputVoltage() <= 0 || getOutputAmperage() <= 0 || getEnergyStored() < getOutputVoltage();
+    }
+
     @Override
     public long acceptEnergyFromNetwork(EnumFacing side, long voltage, long amperage) {
         long canAccept = getEnergyCapacity() - getEnergyStored();
@@ -1,5 +1,7 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.IModificationTracker;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
@@ -7,9 +9,10 @@ import net.minecraftforge.fluids.FluidTank;
 import javax.annotation.Nullable;
 import java.util.function.Predicate;
 
-public class FilteredFluidHandler extends FluidTank {
+public class FilteredFluidHandler extends FluidTank implements IModificationTracker {
 
     private Predicate<FluidStack> fillPredicate;
+    private long modificationCount;
 
     public FilteredFluidHandler(int capacity) {
         super(capacity);
@@ -28,6 +31,29 @@ public class FilteredFluidHandler extends FluidTank {
         return this;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    protected void onContentsChanged() {
+        this.modificationCount++;
+    }
+
+    @Override
+    public void setFluid(@Nullable FluidStack fluid) {
+        super.setFluid(fluid);
+        this.modificationCount++;
+    }
+
+    @Override
+    public FluidTank readFromNBT(NBTTagCompound nbt) {
+        FluidTank result = super.readFromNBT(nbt);
+        this.modificationCount++;
+        return result;
+    }
+
     @Override
     public boolean canFillFluidType(FluidStack fluid) {
         return canFill() && (fillPredicate == null || fillPredicate.test(fluid));
@@ -1,6 +1,7 @@
 package gregtech.api.capability.impl;
 
 import com.google.common.collect.Lists;
+import gregtech.api.capability.IModificationTracker;
 import gregtech.api.capability.IMultipleTankHandler;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
@@ -17,7 +18,7 @@ import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import javax.annotation.Nullable;
 import java.util.*;
 
-public class FluidTankList implements IFluidHandler, IMultipleTankHandler, INBTSerializable<NBTTagCompound> {
+public class FluidTankList implements IFluidHandler, IMultipleTankHandler, IModificationTracker, INBTSerializable<NBTTagCompound> {
 
     protected final List<IFluidTank> fluidTanks;
     protected IFluidTankProperties[] properties;
@@ -55,6 +56,22 @@ public class FluidTankList implements IFluidHandler, IMultipleTankHandler, INBTS
         return fluidTanks.get(index);
     }
 
+    /**
+     * @return sum of modification counts of all tanks, or {@link #UNTRACKED}
+     * if any of tanks doesn't track modifications
+     */
+    @Override
+    public long getModificationCount() {
+        long modificationCount = 0L;
+        for(IFluidTank fluidTank : fluidTanks) {
+            long tankModificationCount = IModificationTracker.getModificationCount(fluidTank);
+            if(tankModificationCount == UNTRACKED)
+                return UNTRACKED;
+            modificationCount += tankModificationCount;
+        }
+        return modificationCount;
+    }
+
     @Override
     public IFluidTankProperties[] getTankProperties() {
         List<IFluidTankProperties> props = Lists.newArrayList();
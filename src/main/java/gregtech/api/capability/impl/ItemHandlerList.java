@@ -2,6 +2,7 @@ package gregtech.api.capability.impl;
 
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.capability.IModificationTracker;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -14,7 +15,7 @@ import java.util.Map;
 /**
  * Efficiently delegates calls into multiple item handlers
  */
-public class ItemHandlerList implements IItemHandlerModifiable {
+public class ItemHandlerList implements IItemHandlerModifiable, IModificationTracker {
 
     private TIntObjectMap<IItemHandler> handlerBySlotIndex = new TIntObjectHashMap<>();
     private Map<IItemHandler, Integer> baseIndexOffset = new IdentityHashMap<>();
@@ -35,6 +36,22 @@ public class ItemHandlerList implements IItemHandlerModifiable {
         return handlerBySlotIndex.size();
     }
 
+    /**
+     * @return sum of modification counts of all handlers, or {@link #UNTRACKED}
+     * if any of handlers doesn't track modifications
+     */
+    @Override
+    public long getModificationCount() {
+        long modificationCount = 0L;
+        for(IItemHandler itemHandler : baseIndexOffset.keySet()) {
+            long handlerModificationCount = IModificationTracker.getModificationCount(itemHandler);
+            if(handlerModificationCount == UNTRACKED)
+                return UNTRACKED;
+            modificationCount += handlerModificationCount;
+        }
+        return modificationCount;
+    }
+
     @Override
     public void setStackInSlot(int slot, @Nonnull ItemStack stack) {
         IItemHandler itemHandler = handlerBySlotIndex.get(slot);
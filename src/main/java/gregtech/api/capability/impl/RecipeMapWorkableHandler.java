@@ -1,6 +1,7 @@
 package gregtech.api.capability.impl;
 
 import gregtech.api.GTValues;
+import gregtech.api.capability.IModificationTracker;
 import gregtech.api.capability.IMultipleTankHandler;
 import gregtech.api.capability.IWorkable;
 import gregtech.api.metatileentity.MTETrait;
@@ -40,6 +41,15 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
     private boolean hasNotEnoughEnergy;
     private boolean wasActiveAndNeedsUpdate;
 
+    //state of inputs at the moment of last failed recipe search, used to skip searching again until they change
+    private boolean hasInvalidInputs;
+    private Object invalidItemInputs;
+    private Object invalidFluidInputs;
+    private long invalidItemInputsModCount;
+    private long invalidFluidInputsModCount;
+    private long invalidInputsMaxVoltage;
+    private long invalidRecipeMapModCount;
+
     public RecipeMapWorkableHandler(MetaTileEntity tileEntity, RecipeMap<?> recipeMap) {
         super(tileEntity);
         this.recipeMap = recipeMap;
@@ -81,21 +91,26 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
 
         if(progressTime == 0 && workingEnabled) {
             long maxVoltage = getMaxVoltage();
-            Recipe currentRecipe;
-            if(previousRecipe != null && previousRecipe.matches(false, false,
-                metaTileEntity.getImportItems(), metaTileEntity.getImportFluids())) {
-                //if previous recipe still matches inputs, try to use it
-                currentRecipe = previousRecipe;
-            } else {
-                //else, try searching new recipe for given inputs
-                currentRecipe = findRecipe(maxVoltage, metaTileEntity.getImportItems(), metaTileEntity.getImportFluids());
-                //if we found recipe that can be buffered, buffer it
-                if(currentRecipe != null && currentRecipe.canBeBuffered()) {
-                    this.previousRecipe = currentRecipe;
+            IItemHandlerModifiable importInventory = metaTileEntity.getImportItems();
+            IMultipleTankHandler importFluids = metaTileEntity.getImportFluids();
+            if(!areInputsUnchangedSinceFailedSearch(maxVoltage, importInventory, importFluids)) {
+                Recipe currentRecipe;
+                if(previousRecipe != null && previousRecipe.matches(false, false, importInventory, importFluids)) {
+                    //if previous recipe still matches inputs, try to use it
+                    currentRecipe = previousRecipe;
+                } else {
+                    //else, try searching new recipe for given inputs
+                    currentRecipe = findRecipe(maxVoltage, importInventory, importFluids);
+                    //if we found recipe that can be buffered, buffer it
+                    if(currentRecipe != null && currentRecipe.canBeBuffered()) {
+                        this.previousRecipe = currentRecipe;
+                    }
+                }
+                if(currentRecipe == null) {
+                    markInputsInvalid(maxVoltage, importInventory, importFluids);
+                } else if(setupAndConsumeRecipeInputs(currentRecipe)) {
+                    setupRecipe(currentRecipe);
                 }
-            }
-            if(currentRecipe != null && setupAndConsumeRecipeInputs(currentRecipe)) {
-                setupRecipe(currentRecipe);
             }
         }
 
@@ -105,6 +120,44 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
         }
     }
 
+    /**
+     * Forces recipe search on next update even if inputs didn't change since last failed search
+     * Call this if recipe search depends on anything besides inputs and maximum voltage
+     */
+    public void invalidateInputs() {
+        this.hasInvalidInputs = false;
+        this.invalidItemInputs = null;
+        this.invalidFluidInputs = null;
+    }
+
+    protected boolean areInputsUnchangedSinceFailedSearch(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
+        return hasInvalidInputs &&
+            invalidInputsMaxVoltage == maxVoltage &&
+            invalidRecipeMapModCount == recipeMap.getModificationCount() &&
+            invalidItemInputs == inputs &&
+            invalidFluidInputs == fluidInputs &&
+            invalidItemInputsModCount == IModificationTracker.getModificationCount(inputs) &&
+            invalidFluidInputsModCount == IModificationTracker.getModificationCount(fluidInputs);
+    }
+
+    protected void markInputsInvalid(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
+        long itemInputsModCount = IModificationTracker.getModificationCount(inputs);
+        long fluidInputsModCount = IModificationTracker.getModificationCount(fluidInputs);
+        if(itemInputsModCount == IModificationTracker.UNTRACKED ||
+            fluidInputsModCount == IModificationTracker.UNTRACKED) {
+            //we can't know when inputs change, so keep searching every update
+            invalidateInputs();
+            return;
+        }
+        this.hasInvalidInputs = true;
+        this.invalidInputsMaxVoltage = maxVoltage;
+        this.invalidRecipeMapModCount = recipeMap.getModificationCount();
+        this.invalidItemInputs = inputs;
+        this.invalidFluidInputs = fluidInputs;
+        this.invalidItemInputsModCount = itemInputsModCount;
+        this.invalidFluidInputsModCount = fluidInputsModCount;
+    }
+
     protected Recipe findRecipe(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
         return recipeMap.findRecipe(maxVoltage, inputs, fluidInputs);
     }
@@ -227,6 +280,7 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
     @Override
     public void setWorkingEnabled(boolean workingEnabled) {
         this.workingEnabled = workingEnabled;
+        invalidateInputs();
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
         }
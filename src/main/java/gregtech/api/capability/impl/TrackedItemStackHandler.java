@@ -0,0 +1,35 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.IModificationTracker;
+import net.minecraftforge.items.ItemStackHandler;
+
+/**
+ * Item stack handler which counts modifications of it's contents
+ */
+public class TrackedItemStackHandler extends ItemStackHandler implements IModificationTracker {
+
+    private long modificationCount;
+
+    public TrackedItemStackHandler() {
+    }
+
+    public TrackedItemStackHandler(int size) {
+        super(size);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    protected void onContentsChanged(int slot) {
+        this.modificationCount++;
+    }
+
+    @Override
+    protected void onLoad() {
+        this.modificationCount++;
+    }
+
+}
@@ -1,11 +1,13 @@
 package gregtech.api.gui;
 
+import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.net.PacketUIClientAction;
 import gregtech.api.net.PacketUIWidgetUpdate;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Container;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -110,13 +112,18 @@ public abstract class Widget implements Comparable<Widget> {
      */
     protected final void writeUpdateInfo(int id, Consumer<PacketBuffer> packetBufferWriter) {
         if(gui.isJEIHandled) return; //do not send packets on jei guis
-        PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
-        packetBuffer.writeInt(id);
-        packetBufferWriter.accept(packetBuffer);
+        if(!(gui.entityPlayer instanceof EntityPlayerMP)) return;
         int widgetId = gui.guiWidgets.inverse().get(this);
-        if(gui.entityPlayer instanceof EntityPlayerMP) {
-            int currentWindowId = gui.entityPlayer.openContainer.windowId;
-            PacketUIWidgetUpdate widgetUpdate = new PacketUIWidgetUpdate(currentWindowId, widgetId, packetBuffer);
+        Container openContainer = gui.entityPlayer.openContainer;
+        if(openContainer instanceof ModularUIContainer && ((ModularUIContainer) openContainer).getModularUI() == gui) {
+            //container sends all updates written during tick as one packet
+            ((ModularUIContainer) openContainer).writeWidgetUpdate(widgetId, id, packetBufferWriter);
+        } else {
+            //container isn't opened yet, so update can't be batched
+            PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
+            packetBuffer.writeVarInt(id);
+            packetBufferWriter.accept(packetBuffer);
+            PacketUIWidgetUpdate widgetUpdate = new PacketUIWidgetUpdate(openContainer.windowId, widgetId, packetBuffer);
             NetworkHandler.channel.sendTo(NetworkHandler.packet2proxy(widgetUpdate), (EntityPlayerMP) gui.entityPlayer);
         }
     }
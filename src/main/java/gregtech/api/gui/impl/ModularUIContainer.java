@@ -3,19 +3,32 @@ package gregtech.api.gui.impl;
 import gregtech.api.gui.INativeWidget;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.Widget;
+import gregtech.api.gui.widgets.SlotWidget;
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketUIWidgetBatchUpdate;
 import gregtech.api.util.GTUtility;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.*;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ModularUIContainer extends Container {
 
     private final HashMap<Slot, INativeWidget> slotMap = new HashMap<>();
     private final ModularUI modularUI;
+    //widget updates written during current tick, framed as varint widget id, varint length and update data
+    private final PacketBuffer widgetUpdateBuffer = new PacketBuffer(Unpooled.buffer());
+    private final PacketBuffer widgetDataBuffer = new PacketBuffer(Unpooled.buffer());
+    private int widgetUpdateCount;
+    //slots which were synced by count deltas during last tick
+    private final BitSet deltaSyncedSlots = new BitSet();
 
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
@@ -37,12 +50,72 @@ public class ModularUIContainer extends Container {
     public void addListener(IContainerListener listener) {
         super.addListener(listener);
         modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        sendWidgetUpdates();
     }
 
     @Override
     public void detectAndSendChanges() {
+        sendSlotCountChanges();
         super.detectAndSendChanges();
         modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        sendWidgetUpdates();
+    }
+
+    /**
+     * Sends count-only changes of slot widget stacks as compact widget updates and marks them as synced,
+     * so vanilla logic in {@link Container#detectAndSendChanges()} resends only stacks which changed otherwise
+     * Client drops deltas which don't apply to its stack, so once slot synced by deltas stops changing,
+     * its stack is resent as whole by vanilla logic to correct possible desync
+     */
+    private void sendSlotCountChanges() {
+        for(int i = 0; i < inventorySlots.size(); i++) {
+            Slot slot = inventorySlots.get(i);
+            INativeWidget nativeWidget = slotMap.get(slot);
+            ItemStack lastStack = inventoryItemStacks.get(i);
+            ItemStack currentStack = slot.getStack();
+            boolean wasDeltaSynced = deltaSyncedSlots.get(i);
+            deltaSyncedSlots.clear(i);
+            if(!(nativeWidget instanceof SlotWidget) || lastStack.isEmpty() || currentStack.isEmpty())
+                continue;
+            if(lastStack.getCount() != currentStack.getCount()) {
+                ItemStack countUpdatedStack = lastStack.copy();
+                countUpdatedStack.setCount(currentStack.getCount());
+                if(ItemStack.areItemStacksEqual(countUpdatedStack, currentStack)) {
+                    ((SlotWidget) nativeWidget).sendCountChange(lastStack, currentStack.getCount());
+                    inventoryItemStacks.set(i, countUpdatedStack);
+                    deltaSyncedSlots.set(i);
+                    continue;
+                }
+            }
+            if(wasDeltaSynced) {
+                inventoryItemStacks.set(i, ItemStack.EMPTY);
+            }
+        }
+    }
+
+    /**
+     * Queues widget update to be sent to the client together with other updates of this tick
+     * Updates written outside of {@link #detectAndSendChanges()} are sent on the next call of it
+     */
+    public void writeWidgetUpdate(int widgetId, int updateId, Consumer<PacketBuffer> packetBufferWriter) {
+        widgetDataBuffer.clear();
+        widgetDataBuffer.writeVarInt(updateId);
+        packetBufferWriter.accept(widgetDataBuffer);
+        widgetUpdateBuffer.writeVarInt(widgetId);
+        widgetUpdateBuffer.writeVarInt(widgetDataBuffer.readableBytes());
+        widgetUpdateBuffer.writeBytes(widgetDataBuffer);
+        this.widgetUpdateCount++;
+    }
+
+    private void sendWidgetUpdates() {
+        if(widgetUpdateCount == 0)
+            return;
+        if(modularUI.entityPlayer instanceof EntityPlayerMP) {
+            PacketUIWidgetBatchUpdate batchUpdate = new PacketUIWidgetBatchUpdate(windowId, widgetUpdateCount, widgetUpdateBuffer);
+            NetworkHandler.channel.sendTo(NetworkHandler.packet2proxy(batchUpdate), (EntityPlayerMP) modularUI.entityPlayer);
+        }
+        widgetUpdateBuffer.clear();
+        this.widgetUpdateCount = 0;
     }
 
     @Override
@@ -40,11 +40,17 @@ public class ModularUIGui extends GuiContainer {
     }
 
     private void processWidgetPackets() {
-        PacketUIWidgetUpdate packet = queuingWidgetUpdates.poll();
-        if(packet != null && packet.windowId == inventorySlots.windowId) {
-            Widget widget = modularUI.guiWidgets.get(packet.widgetId);
-            int discriminator = packet.updateData.readInt();
-            if(widget != null) widget.readUpdateInfo(discriminator, packet.updateData);
+        //all updates received since last tick are applied at once, so client never lags behind server
+        PacketUIWidgetUpdate packet;
+        while((packet = queuingWidgetUpdates.poll()) != null) {
+            try {
+                if(packet.windowId != inventorySlots.windowId) continue;
+                Widget widget = modularUI.guiWidgets.get(packet.widgetId);
+                int discriminator = packet.updateData.readVarInt();
+                if(widget != null) widget.readUpdateInfo(discriminator, packet.updateData);
+            } finally {
+                packet.release();
+            }
         }
     }
 
@@ -1,6 +1,7 @@
 package gregtech.api.gui.widgets;
 
 import gregtech.api.gui.Widget;
+import gregtech.api.util.TextComponentCodec;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiUtilRenderComponents;
@@ -12,20 +13,30 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
  * Represents a text-component based widget, which obtains
  * text from server and automatically synchronizes it with clients
+ * If source hash supplier is set, text is rebuilt on server only when hash of source values changes,
+ * and at least once per {@link #MAX_SKIPPED_UPDATES} ticks in case supplier misses some value
  */
 public class AdvancedTextWidget extends Widget {
 
+    private static final int MAX_SKIPPED_UPDATES = 20;
+
     protected int xPosition;
     protected int yPosition;
     protected int maxWidthLimit;
 
     protected Consumer<List<ITextComponent>> textSupplier;
+    protected IntSupplier sourceHashSupplier;
     private ArrayList<ITextComponent> lastText = new ArrayList<>();
+    private boolean hasLastSourceHash = false;
+    private int lastSourceHash;
+    private int skippedUpdates;
+    private List<ITextComponent> cutText;
     private int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
@@ -41,18 +52,31 @@ public class AdvancedTextWidget extends Widget {
         return this;
     }
 
+    /**
+     * Sets supplier of hash of all values text supplier reads,
+     * so text isn't rebuilt on server while these values stay the same
+     */
+    public AdvancedTextWidget setSourceHashSupplier(IntSupplier sourceHashSupplier) {
+        this.sourceHashSupplier = sourceHashSupplier;
+        return this;
+    }
+
     @Override
     public void detectAndSendChanges() {
+        if(sourceHashSupplier != null) {
+            int sourceHash = sourceHashSupplier.getAsInt();
+            if(hasLastSourceHash && sourceHash == lastSourceHash && ++skippedUpdates < MAX_SKIPPED_UPDATES) {
+                return;
+            }
+            this.hasLastSourceHash = true;
+            this.lastSourceHash = sourceHash;
+            this.skippedUpdates = 0;
+        }
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
         if(!lastText.equals(textBuffer)) {
             this.lastText = textBuffer;
-            writeUpdateInfo(1, buffer -> {
-                buffer.writeInt(lastText.size());
-                for(ITextComponent textComponent : lastText) {
-                    buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
-                }
-            });
+            writeUpdateInfo(1, buffer -> TextComponentCodec.writeComponents(buffer, lastText));
         }
     }
 
@@ -60,11 +84,8 @@ public class AdvancedTextWidget extends Widget {
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if(id == 1) {
             this.lastText.clear();
-            int count = buffer.readInt();
-            for(int i = 0; i < count; i++) {
-                String jsonText = buffer.readString(32767);
-                this.lastText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
-            }
+            this.cutText = null;
+            TextComponentCodec.readComponents(buffer, lastText);
         }
     }
 
@@ -72,13 +93,15 @@ public class AdvancedTextWidget extends Widget {
     @SideOnly(Side.CLIENT)
     public void drawInForeground(int mouseX, int mouseY) {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
-        List<ITextComponent> cutText;
-        if(maxWidthLimit > 0) {
-            cutText = lastText.stream()
-                .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxWidthLimit, fontRenderer, true, true).stream())
-                .collect(Collectors.toList());
-        } else {
-            cutText = lastText;
+        //text only changes on update packets, so it's split once per update instead of every frame
+        if(cutText == null) {
+            if(maxWidthLimit > 0) {
+                this.cutText = lastText.stream()
+                    .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxWidthLimit, fontRenderer, true, true).stream())
+                    .collect(Collectors.toList());
+            } else {
+                this.cutText = lastText;
+            }
         }
         for(int i = 0; i < cutText.size(); i++) {
             fontRenderer.drawString(cutText.get(i).getFormattedText(), this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
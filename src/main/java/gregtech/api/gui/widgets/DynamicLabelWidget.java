@@ -20,6 +20,8 @@ public class DynamicLabelWidget extends Widget {
     protected int yPosition;
 
     protected Supplier<String> textSupplier;
+    private String lastText;
+    private String[] lastTextLines;
     private int color;
 
     public DynamicLabelWidget(int xPosition, int yPosition, Supplier<String> text) {
@@ -37,7 +39,13 @@ public class DynamicLabelWidget extends Widget {
     @Override
     @SideOnly(Side.CLIENT)
     public void drawInForeground(int mouseX, int mouseY) {
-        String[] split = textSupplier.get().split("\n");
+        String text = textSupplier.get();
+        //split text again only when it actually changes, suppliers usually return the same string for a while
+        if(!text.equals(lastText)) {
+            this.lastText = text;
+            this.lastTextLines = text.split("\n");
+        }
+        String[] split = lastTextLines;
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
         for(int i = 0; i < split.length; i++) {
             fontRenderer.drawString(split[i], this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
@@ -1,12 +1,17 @@
 package gregtech.api.gui.widgets;
 
+import gregtech.api.capability.IModificationTracker;
 import gregtech.api.gui.INativeWidget;
 import gregtech.api.gui.Widget;
 import gregtech.api.gui.resources.TextureArea;
+import gregtech.api.util.GTUtility;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.ClickType;
 import net.minecraft.inventory.Slot;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -44,6 +49,54 @@ public class SlotWidget extends Widget implements INativeWidget {
     public void detectAndSendChanges() {
     }
 
+    /**
+     * Sends count change of stack in this slot without resending whole stack
+     * Called by container when stack in slot differs from the last synced one only by count
+     * Delta carries full identity of last synced stack, so client only applies it on top of the same stack
+     */
+    public void sendCountChange(ItemStack lastStack, int newCount) {
+        int itemId = Item.getIdFromItem(lastStack.getItem());
+        int metadata = lastStack.getMetadata();
+        //client receives share tag instead of actual one, so hash what it will see
+        int tagHash = getTagHash(lastStack.getItem().getNBTShareTag(lastStack));
+        int lastCount = lastStack.getCount();
+        writeUpdateInfo(1, buffer -> {
+            buffer.writeVarInt(itemId);
+            buffer.writeVarInt(metadata);
+            buffer.writeInt(tagHash);
+            buffer.writeVarInt(lastCount);
+            GTUtility.writeSignedVarInt(buffer, newCount - lastCount);
+        });
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void readUpdateInfo(int id, PacketBuffer buffer) {
+        if(id == 1) {
+            int itemId = buffer.readVarInt();
+            int metadata = buffer.readVarInt();
+            int tagHash = buffer.readInt();
+            int lastCount = buffer.readVarInt();
+            int countDelta = GTUtility.readSignedVarInt(buffer);
+            ItemStack stackInSlot = slotReference.getStack();
+            //vanilla slot packets are applied before queued widget updates,
+            //so ignore delta if stack was already replaced by newer one
+            //container resends whole stack once it stops changing, so dropped deltas are corrected
+            if(!stackInSlot.isEmpty() && stackInSlot.getCount() == lastCount &&
+                Item.getIdFromItem(stackInSlot.getItem()) == itemId &&
+                stackInSlot.getMetadata() == metadata &&
+                getTagHash(stackInSlot.getTagCompound()) == tagHash) {
+                ItemStack newStack = stackInSlot.copy();
+                newStack.setCount(lastCount + countDelta);
+                slotReference.putStack(newStack);
+            }
+        }
+    }
+
+    private static int getTagHash(NBTTagCompound tagCompound) {
+        return tagCompound == null ? 0 : tagCompound.hashCode();
+    }
+
     public SlotWidget(IItemHandlerModifiable itemHandler, int slotIndex, int xPosition, int yPosition) {
         this(itemHandler, slotIndex, xPosition, yPosition, true, true);
     }
@@ -80,6 +133,10 @@ public class SlotWidget extends Widget implements INativeWidget {
     }
 
     public void onSlotChanged() {
+        if(itemHandler instanceof IModificationTracker) {
+            //vanilla container logic can change stack in slot directly, so let handler know about it
+            itemHandler.setStackInSlot(slotIndex, itemHandler.getStackInSlot(slotIndex));
+        }
         gui.holder.markAsDirty();
     }
 
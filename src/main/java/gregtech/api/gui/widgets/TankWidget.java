@@ -3,6 +3,7 @@ package gregtech.api.gui.widgets;
 import gregtech.api.gui.Widget;
 import gregtech.api.gui.resources.RenderUtil;
 import gregtech.api.gui.resources.TextureArea;
+import gregtech.api.util.GTUtility;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.GlStateManager;
@@ -43,6 +44,8 @@ public class TankWidget extends Widget {
 
     private FluidStack lastFluidInTank;
     private int lastTankCapacity;
+    //whether amount was synced by delta during last tick
+    private boolean amountDeltaSynced;
 
     public TankWidget(IFluidTank fluidTank, int x, int y, int width, int height) {
         super(SLOT_DRAW_PRIORITY + 100);
@@ -159,19 +162,33 @@ public class TankWidget extends Widget {
         FluidStack fluidStack = fluidTank.getFluid();
         if(fluidTank.getCapacity() != lastTankCapacity) {
             this.lastTankCapacity = fluidTank.getCapacity();
-            writeUpdateInfo(0, buffer -> buffer.writeInt(lastTankCapacity));
+            writeUpdateInfo(0, buffer -> buffer.writeVarInt(lastTankCapacity));
         }
+        boolean wasAmountDeltaSynced = this.amountDeltaSynced;
+        this.amountDeltaSynced = false;
         if(fluidStack == null && lastFluidInTank != null) {
             this.lastFluidInTank = null;
             writeUpdateInfo(1, buffer -> {});
         } else if(fluidStack != null) {
-            if(!fluidStack.isFluidEqual(lastFluidInTank)) {
+            boolean amountChanged = lastFluidInTank != null && fluidStack.amount != lastFluidInTank.amount;
+            if(!fluidStack.isFluidEqual(lastFluidInTank) || (wasAmountDeltaSynced && !amountChanged)) {
+                //fluid identity is sent only when it changes, amount changes are sent as deltas below
+                //once amount synced by deltas settles, whole stack is resent to correct deltas client had to drop
                 this.lastFluidInTank = fluidStack.copy();
-                NBTTagCompound fluidStackTag = fluidStack.writeToNBT(new NBTTagCompound());
-                writeUpdateInfo(2, buffer -> buffer.writeCompoundTag(fluidStackTag));
-            } else if(fluidStack.amount != lastFluidInTank.amount) {
+                writeUpdateInfo(2, buffer -> {
+                    buffer.writeString(FluidRegistry.getFluidName(fluidStack));
+                    buffer.writeVarInt(fluidStack.amount);
+                    buffer.writeCompoundTag(fluidStack.tag);
+                });
+            } else if(amountChanged) {
+                int lastAmount = lastFluidInTank.amount;
+                int amountDelta = fluidStack.amount - lastAmount;
                 this.lastFluidInTank.amount = fluidStack.amount;
-                writeUpdateInfo(3, buffer -> buffer.writeInt(lastFluidInTank.amount));
+                this.amountDeltaSynced = true;
+                writeUpdateInfo(3, buffer -> {
+                    buffer.writeVarInt(lastAmount);
+                    GTUtility.writeSignedVarInt(buffer, amountDelta);
+                });
             }
         }
     }
@@ -179,19 +196,26 @@ public class TankWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if(id == 0) {
-            this.lastTankCapacity = buffer.readInt();
+            this.lastTankCapacity = buffer.readVarInt();
         } else if(id == 1) {
             this.lastFluidInTank = null;
         } else if(id == 2) {
+            Fluid fluid = FluidRegistry.getFluid(buffer.readString(Short.MAX_VALUE));
+            int amount = buffer.readVarInt();
             NBTTagCompound fluidStackTag;
             try {
                 fluidStackTag = buffer.readCompoundTag();
             } catch (IOException ignored) {
                 return;
             }
-            this.lastFluidInTank = FluidStack.loadFluidStackFromNBT(fluidStackTag);
-        } else if(id == 3 && lastFluidInTank != null) {
-            this.lastFluidInTank.amount = buffer.readInt();
+            this.lastFluidInTank = fluid == null ? null : new FluidStack(fluid, amount, fluidStackTag);
+        } else if(id == 3) {
+            int lastAmount = buffer.readVarInt();
+            int amountDelta = GTUtility.readSignedVarInt(buffer);
+            //delta is only valid on top of amount it was computed from, stale ones are corrected by full resend
+            if(lastFluidInTank != null && lastFluidInTank.amount == lastAmount) {
+                this.lastFluidInTank.amount = lastAmount + amountDelta;
+            }
         }
 
         if(id == 4) {
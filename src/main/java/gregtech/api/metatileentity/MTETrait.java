@@ -7,11 +7,16 @@ import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 public abstract class MTETrait {
 
     protected MetaTileEntity metaTileEntity;
+    private final List<SyncedData> syncedData = new ArrayList<>();
+    private int tickInterval = 1;
 
     public MTETrait(MetaTileEntity metaTileEntity) {
         this.metaTileEntity = metaTileEntity;
@@ -38,6 +43,27 @@ public abstract class MTETrait {
     public void update() {
     }
 
+    public int getTickInterval() {
+        return tickInterval;
+    }
+
+    /**
+     * Makes {@link #update()} called only every N ticks of meta tile entity
+     * Use it for traits which don't need to react to changes immediately
+     */
+    protected final void setTickInterval(int tickInterval) {
+        Preconditions.checkArgument(tickInterval > 0, "tickInterval should be positive");
+        this.tickInterval = tickInterval;
+    }
+
+    /**
+     * @return true if this trait has nothing to do in {@link #update()} until something changes it
+     * Trait changing from idle state should wake up meta tile entity with {@link MetaTileEntity#wakeUp()}
+     */
+    public boolean isIdle() {
+        return false;
+    }
+
     public NBTTagCompound serializeNBT() {
         return new NBTTagCompound();
     }
@@ -56,16 +82,97 @@ public abstract class MTETrait {
 
     public final void writeCustomData(int id, Consumer<PacketBuffer> writer) {
         Preconditions.checkElementIndex(id, 100, "Only 0-100 sync ids allowed");
-        metaTileEntity.writeCustomData(-4, buffer -> {
+        //every trait and sync id is separate value, so only updates for the same id should override each other
+        int updateKey = metaTileEntity.mteTraits.indexOf(this) * 100 + id;
+        metaTileEntity.writeCustomData(-4, updateKey, buffer -> {
             buffer.writeString(getName());
             buffer.writeInt(id);
             writer.accept(buffer);
         });
     }
 
+    /**
+     * Declares client-relevant data which is sent to the client according to the given sync policy
+     * Use it for values changing constantly (like stored energy) which client doesn't need to know tick-exact
+     * Call {@link #markSyncedDataDirty(int)} when value changes, and it will be sent with given writer
+     * once policy allows it. Data is received in {@link #receiveCustomData(int, PacketBuffer)}
+     * @param id sync id of the data, shared with {@link #writeCustomData(int, Consumer)} ids
+     */
+    protected final void registerSyncedData(int id, SyncPolicy syncPolicy, Consumer<PacketBuffer> writer) {
+        Preconditions.checkArgument(!syncPolicy.hasRelativeThreshold(), "Relative threshold requires value getter");
+        registerSyncedData(id, syncPolicy, null, writer);
+    }
+
+    /**
+     * Same as {@link #registerSyncedData(int, SyncPolicy, Consumer)}, but also allows policy
+     * to compare current value with the last sent one
+     */
+    protected final void registerSyncedData(int id, SyncPolicy syncPolicy, @Nullable LongSupplier valueGetter, Consumer<PacketBuffer> writer) {
+        Preconditions.checkElementIndex(id, 100, "Only 0-100 sync ids allowed");
+        syncedData.add(new SyncedData(id, syncPolicy, valueGetter, writer));
+    }
+
+    protected final void markSyncedDataDirty(int id) {
+        for(SyncedData data : syncedData) {
+            if(data.id == id) {
+                data.dirty = true;
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Synced data with id " + id + " is not registered");
+    }
+
+    /**
+     * @param force true to send all dirty data ignoring intervals and thresholds of sync policies,
+     *              data which is synced only when watched is still kept until somebody watches it
+     */
+    final void flushSyncedData(boolean force) {
+        if(syncedData.isEmpty())
+            return;
+        long timer = metaTileEntity.getTimer();
+        //computed lazily, because it requires chunk lookup
+        Boolean isWatched = null;
+        for(SyncedData data : syncedData) {
+            SyncPolicy syncPolicy = data.syncPolicy;
+            long ticksSinceSync = timer - data.lastSyncTime;
+            if(!data.dirty || (!force && ticksSinceSync < syncPolicy.getSyncInterval()))
+                continue;
+            if(syncPolicy.isOnlyWhenWatched()) {
+                if(isWatched == null) {
+                    isWatched = metaTileEntity.isWatchedByPlayers();
+                }
+                if(!isWatched) continue;
+            }
+            long currentValue = data.valueGetter == null ? 0L : data.valueGetter.getAsLong();
+            if(!force && ticksSinceSync < syncPolicy.getMaxSyncDelay() && !syncPolicy.isSignificantChange(data.lastSyncedValue, currentValue))
+                continue;
+            data.dirty = false;
+            data.lastSyncTime = timer;
+            data.lastSyncedValue = currentValue;
+            writeCustomData(data.id, data.writer);
+        }
+    }
+
     final void readSyncData(PacketBuffer buffer) {
         int internalId = buffer.readInt();
         receiveCustomData(internalId, buffer);
     }
 
+    private static class SyncedData {
+        private final int id;
+        private final SyncPolicy syncPolicy;
+        private final LongSupplier valueGetter;
+        private final Consumer<PacketBuffer> writer;
+        private boolean dirty;
+        private long lastSyncTime = Long.MIN_VALUE / 2;
+        private long lastSyncedValue;
+
+        public SyncedData(int id, SyncPolicy syncPolicy, LongSupplier valueGetter, Consumer<PacketBuffer> writer) {
+            this.id = id;
+            this.syncPolicy = syncPolicy;
+            this.valueGetter = valueGetter;
+            this.writer = writer;
+        }
+    }
+
 }
@@ -8,6 +8,7 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import com.google.common.base.Preconditions;
 import gregtech.api.GregTechAPI;
+import gregtech.api.capability.IModificationTracker;
 import gregtech.api.capability.impl.FluidHandlerProxy;
 import gregtech.api.capability.impl.FluidTankList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
@@ -20,12 +21,14 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.FluidActionResult;
@@ -42,7 +45,9 @@ import org.apache.commons.lang3.ArrayUtils;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public abstract class MetaTileEntity {
@@ -69,12 +74,23 @@ public abstract class MetaTileEntity {
 
     protected int[] sidedRedstoneOutput = new int[6];
 
+    //capabilities provided by inventories and traits, built lazily and cleared when they change
+    private Map<Capability<?>, Object> capabilityCache;
+
+    //neighbour tile entities by side index, entry is valid only if side bit is set in the mask
+    private final TileEntity[] neighbourTileEntities = new TileEntity[6];
+    private int cachedNeighboursMask;
+    //modification counts of export inventories when they were last seen empty by push methods
+    private long emptyExportItemsModificationCount = IModificationTracker.UNTRACKED;
+    private long emptyExportFluidsModificationCount = IModificationTracker.UNTRACKED;
+
     public MetaTileEntity(String metaTileEntityId) {
         this.metaTileEntityId = metaTileEntityId;
         initializeInventory();
     }
 
     protected void initializeInventory() {
+        clearCapabilityCache();
         this.importItems = createImportItemHandler();
         this.exportItems = createExportItemHandler();
         this.itemInventory = new ItemHandlerProxy(importItems, exportItems);
@@ -82,6 +98,8 @@ public abstract class MetaTileEntity {
         this.importFluids = createImportFluidHandler();
         this.exportFluids = createExportFluidHandler();
         this.fluidInventory = new FluidHandlerProxy(importFluids, exportFluids);
+        this.emptyExportItemsModificationCount = IModificationTracker.UNTRACKED;
+        this.emptyExportFluidsModificationCount = IModificationTracker.UNTRACKED;
     }
 
     public MetaTileEntityHolder getHolder() {
@@ -107,12 +125,38 @@ public abstract class MetaTileEntity {
         return holder == null ? 0L : holder.getTimer();
     }
 
+    /**
+     * @return true if chunk of this meta tile entity is tracked by any player on the server side,
+     * i.e it's updates are actually sent to somebody
+     */
+    public boolean isWatchedByPlayers() {
+        World world = getWorld();
+        if(!(world instanceof WorldServer))
+            return false;
+        BlockPos pos = getPos();
+        PlayerChunkMapEntry chunkEntry = ((WorldServer) world).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
+        return chunkEntry != null && chunkEntry.isSentToPlayers();
+    }
+
+    /**
+     * Writes custom data to be sent to the client, see {@link MetaTileEntityHolder#writeCustomData(int, Consumer)}
+     * Data written multiple times with the same discriminator during one tick is sent only once
+     */
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
         if(holder != null) {
             holder.writeCustomData(discriminator, dataWriter);
         }
     }
 
+    /**
+     * Writes custom data to be sent to the client, see {@link MetaTileEntityHolder#writeCustomData(int, int, Consumer)}
+     */
+    public void writeCustomData(int discriminator, int updateKey, Consumer<PacketBuffer> dataWriter) {
+        if(holder != null) {
+            holder.writeCustomData(discriminator, updateKey, dataWriter);
+        }
+    }
+
     @SideOnly(Side.CLIENT)
     public void addInformation(ItemStack stack, @Nullable World player, List<String> tooltip, boolean advanced) {
     }
@@ -202,6 +246,36 @@ public abstract class MetaTileEntity {
     void addMetaTileEntityTrait(MTETrait trait) {
         mteTraits.removeIf(otherTrait -> otherTrait.getName().equals(trait.getName()));
         this.mteTraits.add(trait);
+        clearCapabilityCache();
+        wakeUp();
+    }
+
+    /**
+     * Clears cached capabilities of this meta tile entity, so they will be collected again on the next query
+     * Call it when inventories returned by {@link #getItemInventory()} or {@link #getFluidInventory()} are replaced
+     */
+    protected void clearCapabilityCache() {
+        this.capabilityCache = null;
+    }
+
+    private Map<Capability<?>, Object> getCapabilityCache() {
+        if(capabilityCache == null) {
+            Map<Capability<?>, Object> capabilities = new IdentityHashMap<>();
+            if(getFluidInventory().getTankProperties().length > 0) {
+                capabilities.put(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, getFluidInventory());
+            }
+            if(getItemInventory().getSlots() > 0) {
+                capabilities.put(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getItemInventory());
+            }
+            for(MTETrait mteTrait : this.mteTraits) {
+                Capability<?> implementingCapability = mteTrait.getImplementingCapability();
+                if(implementingCapability != null) {
+                    capabilities.putIfAbsent(implementingCapability, mteTrait);
+                }
+            }
+            this.capabilityCache = capabilities;
+        }
+        return capabilityCache;
     }
 
     protected IItemHandlerModifiable createImportItemHandler() {
@@ -279,8 +353,85 @@ public abstract class MetaTileEntity {
     }
 
     public void update() {
+        long timer = getTimer();
+        boolean profiling = MetaTileEntityProfiler.isProfiling() && !getWorld().isRemote;
+        for(MTETrait mteTrait : this.mteTraits) {
+            if(timer % mteTrait.getTickInterval() != 0) continue;
+            if(profiling) {
+                long startTime = System.nanoTime();
+                mteTrait.update();
+                MetaTileEntityProfiler.recordTrait(mteTrait, System.nanoTime() - startTime);
+            } else {
+                mteTrait.update();
+            }
+        }
+        if(!getWorld().isRemote) {
+            for(MTETrait mteTrait : this.mteTraits) {
+                mteTrait.flushSyncedData(false);
+            }
+        }
+    }
+
+    /**
+     * @return true if this meta tile entity has nothing to do until something changes it
+     * Idle meta tile entities are put to sleep after update on server side, see {@link #sleep()}
+     * Default implementation returns false, so meta tile entity ticks every tick
+     */
+    public boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * @return true if all traits of this meta tile entity are idle
+     */
+    protected boolean areTraitsIdle() {
+        for(MTETrait mteTrait : this.mteTraits) {
+            if(!mteTrait.isIdle())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops ticking of this meta tile entity until {@link #wakeUp()} is called
+     * Meta tile entity is woken up automatically when neighbour block changes or front facing is set,
+     * everything else which can give it new work (like energy input) should call {@link #wakeUp()}
+     * Has no effect on client side
+     */
+    public void sleep() {
+        if(holder == null || holder.isSleeping())
+            return;
+        flushSyncedDataBeforeSleep();
+        holder.sleep();
+    }
+
+    /**
+     * Stops ticking of this meta tile entity for given amount of ticks
+     * Meta tile entity can still be woken up earlier by {@link #wakeUp()}
+     */
+    public void sleep(int ticks) {
+        if(holder == null || holder.isSleeping())
+            return;
+        flushSyncedDataBeforeSleep();
+        holder.sleep(ticks);
+    }
+
+    public void wakeUp() {
+        if(holder != null) {
+            holder.wakeUp();
+        }
+    }
+
+    public boolean isSleeping() {
+        return holder != null && holder.isSleeping();
+    }
+
+    private void flushSyncedDataBeforeSleep() {
+        if(getWorld() == null || getWorld().isRemote)
+            return;
+        //rate-limited values would stay stale on client until wake up otherwise
         for(MTETrait mteTrait : this.mteTraits) {
-            mteTrait.update();
+            mteTrait.flushSyncedData(true);
         }
     }
 
@@ -418,33 +569,17 @@ public abstract class MetaTileEntity {
         }
     }
 
+    /**
+     * Capabilities of inventories and traits are the same for all sides, override this method
+     * and {@link #getCapability(Capability, EnumFacing)} to provide side-dependent capabilities
+     */
     public boolean hasCapability(Capability<?> capability, EnumFacing side) {
-        if((capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY &&
-            getFluidInventory().getTankProperties().length > 0) ||
-            (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY &&
-            getItemInventory().getSlots() > 0))
-            return true;
-        for(MTETrait mteTrait : this.mteTraits) {
-            if(mteTrait.getImplementingCapability() == capability)
-                return true;
-        }
-        return false;
+        return getCapabilityCache().containsKey(capability);
     }
 
     public <T> T getCapability(Capability<T> capability, EnumFacing side) {
-        if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY &&
-            getFluidInventory().getTankProperties().length > 0) {
-            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(getFluidInventory());
-        } else if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY &&
-            getItemInventory().getSlots() > 0) {
-            return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(getItemInventory());
-        }
-        for(MTETrait mteTrait : this.mteTraits) {
-            if(mteTrait.getImplementingCapability() == capability)
-                //noinspection unchecked
-                return (T) mteTrait;
-        }
-        return null;
+        //noinspection unchecked
+        return (T) getCapabilityCache().get(capability);
     }
 
     public boolean fillInternalTankFromFluidContainer(IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, int inputSlot, int outputSlot) {
@@ -479,10 +614,100 @@ public abstract class MetaTileEntity {
         return false;
     }
 
+    /**
+     * Called when block or tile entity near this meta tile entity is changed
+     * @param neighbourPos position of the changed neighbour
+     */
+    public void onNeighborChanged(BlockPos neighbourPos) {
+        wakeUp();
+        BlockPos selfPos = getPos();
+        for(EnumFacing side : EnumFacing.VALUES) {
+            if(selfPos.getX() + side.getFrontOffsetX() == neighbourPos.getX() &&
+                selfPos.getY() + side.getFrontOffsetY() == neighbourPos.getY() &&
+                selfPos.getZ() + side.getFrontOffsetZ() == neighbourPos.getZ()) {
+                invalidateNeighbor(side);
+                return;
+            }
+        }
+        //not a direct neighbour, so we can't know which side is affected
+        invalidateNeighbors();
+    }
+
+    private void invalidateNeighbor(EnumFacing side) {
+        this.cachedNeighboursMask &= ~(1 << side.getIndex());
+        this.neighbourTileEntities[side.getIndex()] = null;
+    }
+
+    private void invalidateNeighbors() {
+        this.cachedNeighboursMask = 0;
+        Arrays.fill(neighbourTileEntities, null);
+    }
+
+    /**
+     * @return tile entity adjacent to this meta tile entity on given side, or null if there is no tile entity
+     * Result is cached until neighbour is changed, so this method is cheap to call every tick
+     */
+    @Nullable
+    public TileEntity getNeighbor(EnumFacing side) {
+        int sideIndex = side.getIndex();
+        TileEntity tileEntity = neighbourTileEntities[sideIndex];
+        if((cachedNeighboursMask & (1 << sideIndex)) != 0 && (tileEntity == null || !tileEntity.isInvalid())) {
+            return tileEntity;
+        }
+        BlockPos neighbourPos = getPos().offset(side);
+        tileEntity = getWorld().getTileEntity(neighbourPos);
+        //neighbours in other chunks can be unloaded and loaded again without notifying us, so they are not cached
+        if(neighbourPos.getX() >> 4 == getPos().getX() >> 4 && neighbourPos.getZ() >> 4 == getPos().getZ() >> 4) {
+            this.neighbourTileEntities[sideIndex] = tileEntity;
+            this.cachedNeighboursMask |= 1 << sideIndex;
+        }
+        return tileEntity;
+    }
+
+    @Nullable
+    private IFluidHandler getNeighborFluidHandler(EnumFacing side) {
+        TileEntity tileEntity = getNeighbor(side);
+        if(tileEntity != null) {
+            return tileEntity.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+        }
+        //fluid blocks in world can provide fluid handlers without tile entity
+        return FluidUtil.getFluidHandler(getWorld(), getPos().offset(side), side.getOpposite());
+    }
+
+    @Nullable
+    private IItemHandler getNeighborItemHandler(EnumFacing side) {
+        TileEntity tileEntity = getNeighbor(side);
+        return tileEntity == null ? null : tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite());
+    }
+
+    private boolean isExportFluidsEmpty() {
+        long modificationCount = exportFluids.getModificationCount();
+        if(modificationCount != IModificationTracker.UNTRACKED && modificationCount == emptyExportFluidsModificationCount)
+            return true; //nothing was changed since the last time we saw tanks empty
+        for(int tankIndex = 0; tankIndex < exportFluids.getTanks(); tankIndex++) {
+            FluidStack fluidStack = exportFluids.getTankAt(tankIndex).getFluid();
+            if(fluidStack != null && fluidStack.amount > 0)
+                return false;
+        }
+        this.emptyExportFluidsModificationCount = modificationCount;
+        return true;
+    }
+
+    private boolean isExportItemsEmpty() {
+        long modificationCount = IModificationTracker.getModificationCount(exportItems);
+        if(modificationCount != IModificationTracker.UNTRACKED && modificationCount == emptyExportItemsModificationCount)
+            return true; //nothing was changed since the last time we saw slots empty
+        if(!isItemHandlerEmpty(exportItems))
+            return false;
+        this.emptyExportItemsModificationCount = modificationCount;
+        return true;
+    }
+
     public void pushFluidsIntoNearbyHandlers(EnumFacing... allowedFaces) {
+        if(isExportFluidsEmpty())
+            return;
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighborFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             for(int tankIndex = 0; tankIndex < exportFluids.getTanks(); tankIndex++) {
                 IFluidTank tank = exportFluids.getTankAt(tankIndex);
@@ -496,10 +721,10 @@ public abstract class MetaTileEntity {
     }
 
     public void pushItemsIntoNearbyHandlers(EnumFacing... allowedFaces) {
+        if(isExportItemsEmpty())
+            return;
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighborItemHandler(nearbyFacing);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < exportItems.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = exportItems.getStackInSlot(slotIndex);
@@ -518,9 +743,7 @@ public abstract class MetaTileEntity {
 
     public void pullItemsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighborItemHandler(nearbyFacing);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < itemHandler.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = itemHandler.extractItem(slotIndex, itemHandler.getSlotLimit(slotIndex), true);
@@ -539,8 +762,7 @@ public abstract class MetaTileEntity {
 
     public void pullFluidsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighborFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             FluidStack fluidStack = fluidHandler.drain(Integer.MAX_VALUE, false);
             if(fluidStack == null || fluidStack.amount == 0) continue;
@@ -591,7 +813,7 @@ public abstract class MetaTileEntity {
         this.sidedRedstoneOutput[side.getIndex()] = strength;
         if (getWorld() != null && !getWorld().isRemote) {
             markDirty();
-            writeCustomData(-3, buf -> {
+            writeCustomData(-3, side.getIndex(), buf -> {
                 buf.writeByte(side.getIndex());
                 buf.writeInt(strength);
             });
@@ -603,6 +825,7 @@ public abstract class MetaTileEntity {
         this.frontFacing = frontFacing;
         if (getWorld() != null && !getWorld().isRemote) {
             markDirty();
+            wakeUp();
             writeCustomData(-1, buf -> buf.writeByte(frontFacing.getIndex()));
             mteTraits.forEach(trait -> trait.onFrontFacingSet(frontFacing));
         }
@@ -647,6 +870,14 @@ public abstract class MetaTileEntity {
     public void onRemoval() {
     }
 
+    /**
+     * Called when tile entity of this meta tile entity is unloaded together with chunk or invalidated
+     * Release references to this meta tile entity kept in global structures here
+     */
+    public void onUnload() {
+        invalidateNeighbors();
+    }
+
     public EnumFacing getFrontFacing() {
         return frontFacing;
     }
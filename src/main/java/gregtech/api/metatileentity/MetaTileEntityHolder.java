@@ -7,7 +7,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
@@ -25,6 +24,12 @@ import java.util.function.Consumer;
 public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIHolder {
 
     private MetaTileEntity metaTileEntity;
+    private final List<UpdateEntry> updateEntries = new ArrayList<>();
+    //entries of already sent updates, kept to reuse their buffers
+    private final List<UpdateEntry> freeUpdateEntries = new ArrayList<>();
+    //block was marked for update, but pending updates weren't sent yet
+    private boolean notifyPending = false;
+    private boolean sleeping;
 
     public MetaTileEntity getMetaTileEntity() {
         return metaTileEntity;
@@ -44,6 +49,8 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
                 buffer.writeString(metaTileEntity.metaTileEntityId);
                 metaTileEntity.writeInitialSyncData(buffer);
             });
+            //new meta tile entity should get at least one tick to decide whether it's idle
+            wakeUp();
             //just to update neighbours so cables and other things will work properly
             world.neighborChanged(getPos(), getBlockType(), getPos());
             markDirty();
@@ -99,16 +106,74 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         return super.getCapability(capability, facing);
     }
 
+    /**
+     * Removes this holder from world's ticking list until {@link #wakeUp()} is called
+     * Has no effect on client side, where tile entities always tick
+     */
+    void sleep() {
+        if(sleeping || !hasWorld() || getWorld().isRemote)
+            return;
+        this.sleeping = true;
+        MetaTileEntityTickScheduler.scheduleSleep(this);
+    }
+
+    /**
+     * Same as {@link #sleep()}, but holder is woken up automatically after given amount of ticks
+     */
+    void sleep(int ticks) {
+        Preconditions.checkArgument(ticks > 0, "ticks should be positive");
+        if(sleeping || !hasWorld() || getWorld().isRemote)
+            return;
+        sleep();
+        MetaTileEntityTickScheduler.scheduleWakeUp(this, ticks);
+    }
+
+    void wakeUp() {
+        if(!sleeping)
+            return;
+        this.sleeping = false;
+        MetaTileEntityTickScheduler.scheduleWakeUp(this);
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
     @Override
     public void update() {
         if(metaTileEntity != null) {
-            metaTileEntity.update();
+            if(MetaTileEntityProfiler.isProfiling() && !getWorld().isRemote) {
+                long startTime = System.nanoTime();
+                metaTileEntity.update();
+                MetaTileEntityProfiler.recordMetaTileEntity(metaTileEntity, System.nanoTime() - startTime);
+            } else {
+                metaTileEntity.update();
+            }
+            if(!getWorld().isRemote && metaTileEntity.isIdle()) {
+                metaTileEntity.sleep();
+            }
         }
         //increment only after current tick, so meta tile entities will get first tick as timer == 0
         //and update their settings which depend on getTimer() % N properly
         super.update();
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        if(metaTileEntity != null) {
+            metaTileEntity.onUnload();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if(metaTileEntity != null) {
+            metaTileEntity.onUnload();
+        }
+    }
+
     public void writeInitialSyncData(PacketBuffer buf) {
         if(metaTileEntity != null) {
             buf.writeBoolean(true);
@@ -148,57 +213,94 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         markDirty();
     }
 
-    private static class UpdateEntry {
-        private final int discriminator;
-        private final byte[] updateData;
-
-        public UpdateEntry(int discriminator, byte[] updateData) {
-            this.discriminator = discriminator;
-            this.updateData = updateData;
-        }
+    /**
+     * Writes custom data which will be sent to the client with the next update packet
+     * Updates with the same discriminator written before packet is sent replace each other,
+     * so only the last written value is sent
+     */
+    public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
+        writeCustomData(discriminator, 0, dataWriter);
     }
 
-    private final List<UpdateEntry> updateEntries = new ArrayList<>();
-
-    public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
-        ByteBuf backedBuffer = Unpooled.buffer();
-        dataWriter.accept(new PacketBuffer(backedBuffer));
-        byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        updateEntries.add(new UpdateEntry(discriminator, updateData));
-        IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
-        world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+    /**
+     * Writes custom data which will be sent to the client with the next update packet
+     * Only updates with the same discriminator and update key replace each other, so use different keys
+     * for updates with the same discriminator which are not overriding each other (e.g. per-side values)
+     */
+    public void writeCustomData(int discriminator, int updateKey, Consumer<PacketBuffer> dataWriter) {
+        if(discriminator == -100000) {
+            //meta tile entity was replaced, so all pending updates are overridden by it's initial data
+            releaseUpdateEntries();
+        }
+        UpdateEntry updateEntry = null;
+        for(UpdateEntry otherEntry : updateEntries) {
+            if(otherEntry.discriminator == discriminator && otherEntry.updateKey == updateKey) {
+                updateEntry = otherEntry;
+                break;
+            }
+        }
+        if(updateEntry == null) {
+            updateEntry = freeUpdateEntries.isEmpty() ? new UpdateEntry() : freeUpdateEntries.remove(freeUpdateEntries.size() - 1);
+            updateEntry.discriminator = discriminator;
+            updateEntry.updateKey = updateKey;
+            updateEntries.add(updateEntry);
+        }
+        //data is written into entry's own reused buffer, and copied only once update packet is built
+        updateEntry.updateData.clear();
+        dataWriter.accept(updateEntry.updateData);
+        //block needs to be marked for update only once until update packet is obtained, it will include all pending updates
+        if(!notifyPending) {
+            this.notifyPending = true;
+            IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
+            world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+        }
     }
 
+    @Nullable
     @Override
     public SPacketUpdateTileEntity getUpdatePacket() {
-        NBTTagCompound updateTag = new NBTTagCompound();
-        NBTTagList tagList = new NBTTagList();
+        this.notifyPending = false;
+        if(updateEntries.isEmpty())
+            return null;
+        //all updates are written into single binary payload instead of NBT compound per update
+        int payloadSize = PacketBuffer.getVarIntSize(updateEntries.size());
         for(UpdateEntry updateEntry : updateEntries) {
-            NBTTagCompound entryTag = new NBTTagCompound();
-            entryTag.setInteger("id", updateEntry.discriminator);
-            entryTag.setByteArray("data", updateEntry.updateData);
-            tagList.appendTag(entryTag);
+            int dataLength = updateEntry.updateData.readableBytes();
+            payloadSize += PacketBuffer.getVarIntSize(updateEntry.discriminator) + PacketBuffer.getVarIntSize(dataLength) + dataLength;
         }
-        updateEntries.clear();
-        updateTag.setTag("data", tagList);
+        byte[] updateData = new byte[payloadSize];
+        PacketBuffer packetBuffer = new PacketBuffer(Unpooled.wrappedBuffer(updateData));
+        packetBuffer.clear();
+        packetBuffer.writeVarInt(updateEntries.size());
+        for(UpdateEntry updateEntry : updateEntries) {
+            packetBuffer.writeVarInt(updateEntry.discriminator);
+            packetBuffer.writeVarInt(updateEntry.updateData.readableBytes());
+            packetBuffer.writeBytes(updateEntry.updateData, updateEntry.updateData.readerIndex(), updateEntry.updateData.readableBytes());
+        }
+        releaseUpdateEntries();
+        NBTTagCompound updateTag = new NBTTagCompound();
+        updateTag.setByteArray("d", updateData);
         return new SPacketUpdateTileEntity(getPos(), 0, updateTag);
     }
 
     @Override
     public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity pkt) {
         NBTTagCompound updateTag = pkt.getNbtCompound();
-        NBTTagList tagList = updateTag.getTagList("data", NBT.TAG_COMPOUND);
-        for(int i = 0; i < tagList.tagCount(); i++) {
-            NBTTagCompound entryTag = tagList.getCompoundTagAt(i);
-            int discriminator = entryTag.getInteger("id");
-            byte[] updateData = entryTag.getByteArray("data");
-            ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
-            receiveCustomData(discriminator, new PacketBuffer(backedBuffer));
+        PacketBuffer packetBuffer = new PacketBuffer(Unpooled.wrappedBuffer(updateTag.getByteArray("d")));
+        int amountOfEntries = packetBuffer.readVarInt();
+        for(int i = 0; i < amountOfEntries; i++) {
+            int discriminator = packetBuffer.readVarInt();
+            int dataLength = packetBuffer.readVarInt();
+            ByteBuf entryBuffer = packetBuffer.readSlice(dataLength);
+            receiveCustomData(discriminator, new PacketBuffer(entryBuffer));
         }
     }
 
     @Override
     public NBTTagCompound getUpdateTag() {
+        //chunk is sent to player who wasn't watching it, so block wasn't necessarily tracked for update
+        //and update packet may never be requested, allow marking it again for next update
+        this.notifyPending = false;
         NBTTagCompound updateTag = super.getUpdateTag();
         updateTag.setInteger("x", getPos().getX());
         updateTag.setInteger("y", getPos().getY());
@@ -216,4 +318,15 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
         receiveInitialSyncData(new PacketBuffer(backedBuffer));
     }
-}
+
+    private void releaseUpdateEntries() {
+        freeUpdateEntries.addAll(updateEntries);
+        updateEntries.clear();
+    }
+
+    private static class UpdateEntry {
+        private int discriminator;
+        private int updateKey;
+        private final PacketBuffer updateData = new PacketBuffer(Unpooled.buffer(16));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package gregtech.api.metatileentity;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.*;
+
+/**
+ * Opt-in server side profiler measuring time spent in meta tile entity and trait updates
+ * Samples are aggregated by meta tile entity id, trait name and chunk, see /gregtech profiler command
+ * Meta tile entity samples include time spent in its traits, so trait samples show where this time goes
+ * When profiler isn't running, the only overhead is a single static field check per update
+ */
+public class MetaTileEntityProfiler {
+
+    private static boolean profiling = false;
+    private static long startTime;
+    private static long stopTime;
+    private static final Map<String, ProfilerEntry> META_TILE_ENTITY_ENTRIES = new HashMap<>();
+    private static final Map<String, ProfilerEntry> TRAIT_ENTRIES = new HashMap<>();
+    //dimension -> chunk key -> entry
+    private static final TIntObjectMap<TLongObjectMap<ProfilerEntry>> CHUNK_ENTRIES = new TIntObjectHashMap<>();
+
+    public static boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Clears previously collected samples and starts collecting new ones
+     * @param currentTime current server tick, used to compute average time per tick
+     */
+    public static void start(long currentTime) {
+        META_TILE_ENTITY_ENTRIES.clear();
+        TRAIT_ENTRIES.clear();
+        CHUNK_ENTRIES.clear();
+        startTime = currentTime;
+        profiling = true;
+    }
+
+    public static void stop(long currentTime) {
+        stopTime = currentTime;
+        profiling = false;
+    }
+
+    /**
+     * @return amount of server ticks covered by collected samples
+     */
+    public static long getSampledTicks(long currentTime) {
+        return Math.max(1L, (profiling ? currentTime : stopTime) - startTime);
+    }
+
+    static void recordMetaTileEntity(MetaTileEntity metaTileEntity, long nanos) {
+        META_TILE_ENTITY_ENTRIES.computeIfAbsent(metaTileEntity.metaTileEntityId, ProfilerEntry::new).record(nanos);
+        int dimension = metaTileEntity.getWorld().provider.getDimension();
+        TLongObjectMap<ProfilerEntry> chunkEntries = CHUNK_ENTRIES.get(dimension);
+        if(chunkEntries == null) {
+            chunkEntries = new TLongObjectHashMap<>();
+            CHUNK_ENTRIES.put(dimension, chunkEntries);
+        }
+        BlockPos pos = metaTileEntity.getPos();
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        ProfilerEntry chunkEntry = chunkEntries.get(chunkKey);
+        if(chunkEntry == null) {
+            chunkEntry = new ProfilerEntry(String.format("dim %d chunk %d, %d", dimension, pos.getX() >> 4, pos.getZ() >> 4));
+            chunkEntries.put(chunkKey, chunkEntry);
+        }
+        chunkEntry.record(nanos);
+    }
+
+    static void recordTrait(MTETrait trait, long nanos) {
+        TRAIT_ENTRIES.computeIfAbsent(trait.getName(), ProfilerEntry::new).record(nanos);
+    }
+
+    public static List<ProfilerEntry> getMetaTileEntityEntries() {
+        return sortEntries(META_TILE_ENTITY_ENTRIES.values());
+    }
+
+    public static List<ProfilerEntry> getTraitEntries() {
+        return sortEntries(TRAIT_ENTRIES.values());
+    }
+
+    public static List<ProfilerEntry> getChunkEntries() {
+        List<ProfilerEntry> result = new ArrayList<>();
+        for(TLongObjectMap<ProfilerEntry> chunkEntries : CHUNK_ENTRIES.valueCollection()) {
+            result.addAll(chunkEntries.valueCollection());
+        }
+        return sortEntries(result);
+    }
+
+    private static List<ProfilerEntry> sortEntries(Collection<ProfilerEntry> entries) {
+        List<ProfilerEntry> result = new ArrayList<>(entries);
+        result.sort(Comparator.comparingLong(ProfilerEntry::getTotalNanos).reversed());
+        return result;
+    }
+
+    public static class ProfilerEntry {
+
+        private final String name;
+        private long totalNanos;
+        private long calls;
+
+        private ProfilerEntry(String name) {
+            this.name = name;
+        }
+
+        private void record(long nanos) {
+            this.totalNanos += nanos;
+            this.calls++;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+    }
+
+}
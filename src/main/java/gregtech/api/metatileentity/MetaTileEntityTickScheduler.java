@@ -0,0 +1,100 @@
+package gregtech.api.metatileentity;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+import java.util.*;
+
+/**
+ * Keeps track of sleeping meta tile entity holders on server side
+ * Sleeping holders are removed from vanilla ticking list, so they don't cost anything until woken up
+ * Vanilla list can't be modified while tile entities are ticking, so all changes are applied at the end of world tick
+ */
+public class MetaTileEntityTickScheduler {
+
+    private static final Map<World, WorldTickList> WORLD_TICK_LISTS = new WeakHashMap<>();
+
+    public static void init() {
+        MinecraftForge.EVENT_BUS.register(MetaTileEntityTickScheduler.class);
+    }
+
+    static void scheduleSleep(MetaTileEntityHolder holder) {
+        WorldTickList tickList = getTickList(holder.getWorld());
+        //holder was woken up and put to sleep again in the same tick, so it's still in vanilla list
+        if(!tickList.pendingWakeUps.remove(holder)) {
+            tickList.pendingSleeps.add(holder);
+        }
+    }
+
+    static void scheduleWakeUp(MetaTileEntityHolder holder) {
+        WorldTickList tickList = getTickList(holder.getWorld());
+        //holder was put to sleep and woken up in the same tick, so it wasn't removed from vanilla list yet
+        if(!tickList.pendingSleeps.remove(holder)) {
+            tickList.pendingWakeUps.add(holder);
+        }
+    }
+
+    static void scheduleWakeUp(MetaTileEntityHolder holder, int delay) {
+        World world = holder.getWorld();
+        long wakeUpTime = world.getTotalWorldTime() + delay;
+        TLongObjectMap<List<MetaTileEntityHolder>> timedWakeUps = getTickList(world).timedWakeUps;
+        List<MetaTileEntityHolder> holders = timedWakeUps.get(wakeUpTime);
+        if(holders == null) {
+            holders = new ArrayList<>();
+            timedWakeUps.put(wakeUpTime, holders);
+        }
+        holders.add(holder);
+    }
+
+    private static WorldTickList getTickList(World world) {
+        return WORLD_TICK_LISTS.computeIfAbsent(world, k -> new WorldTickList());
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(WorldTickEvent event) {
+        if(event.phase != Phase.END || event.world.isRemote)
+            return;
+        WorldTickList tickList = WORLD_TICK_LISTS.get(event.world);
+        if(tickList == null)
+            return;
+        World world = event.world;
+        List<MetaTileEntityHolder> timedHolders = tickList.timedWakeUps.remove(world.getTotalWorldTime());
+        if(timedHolders != null) {
+            for(MetaTileEntityHolder holder : timedHolders) {
+                //holder could be woken up earlier and sleep indefinitely now, waking it up once more is harmless
+                holder.wakeUp();
+            }
+        }
+        if(!tickList.pendingSleeps.isEmpty()) {
+            world.tickableTileEntities.removeAll(tickList.pendingSleeps);
+            tickList.pendingSleeps.clear();
+        }
+        if(!tickList.pendingWakeUps.isEmpty()) {
+            for(MetaTileEntityHolder holder : tickList.pendingWakeUps) {
+                //holder could be unloaded or replaced while sleeping, vanilla already forgot about it then
+                if(!holder.isInvalid() && world.isBlockLoaded(holder.getPos()) && world.getTileEntity(holder.getPos()) == holder) {
+                    world.tickableTileEntities.add(holder);
+                }
+            }
+            tickList.pendingWakeUps.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        WORLD_TICK_LISTS.remove(event.getWorld());
+    }
+
+    private static class WorldTickList {
+        private final Set<MetaTileEntityHolder> pendingSleeps = new HashSet<>();
+        private final Set<MetaTileEntityHolder> pendingWakeUps = new HashSet<>();
+        private final TLongObjectMap<List<MetaTileEntityHolder>> timedWakeUps = new TLongObjectHashMap<>();
+    }
+
+}
@@ -0,0 +1,86 @@
+package gregtech.api.metatileentity;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Describes how often client-relevant data registered in {@link MTETrait} is sent to the client
+ * Policies are immutable, so they can be stored in constants and shared between traits
+ */
+public class SyncPolicy {
+
+    /**
+     * Sends every change on the next update of meta tile entity
+     */
+    public static final SyncPolicy IMMEDIATE = new SyncPolicy(1, 0.0, 0, false);
+
+    private final int syncInterval;
+    private final double relativeThreshold;
+    private final int maxSyncDelay;
+    private final boolean onlyWhenWatched;
+
+    private SyncPolicy(int syncInterval, double relativeThreshold, int maxSyncDelay, boolean onlyWhenWatched) {
+        this.syncInterval = syncInterval;
+        this.relativeThreshold = relativeThreshold;
+        this.maxSyncDelay = maxSyncDelay;
+        this.onlyWhenWatched = onlyWhenWatched;
+    }
+
+    /**
+     * @param syncInterval minimal amount of ticks between two updates sent to the client
+     */
+    public static SyncPolicy interval(int syncInterval) {
+        Preconditions.checkArgument(syncInterval > 0, "syncInterval should be positive");
+        return new SyncPolicy(syncInterval, 0.0, 0, false);
+    }
+
+    /**
+     * Changes smaller than given fraction of the last sent value are not sent to the client
+     * until maxSyncDelay ticks pass since the last update, so client value is never stale for too long
+     * Requires value getter to be specified when data is registered
+     */
+    public SyncPolicy withRelativeThreshold(double relativeThreshold, int maxSyncDelay) {
+        Preconditions.checkArgument(relativeThreshold >= 0.0, "relativeThreshold should be non-negative");
+        Preconditions.checkArgument(maxSyncDelay >= syncInterval, "maxSyncDelay should be not less than syncInterval");
+        return new SyncPolicy(syncInterval, relativeThreshold, maxSyncDelay, onlyWhenWatched);
+    }
+
+    /**
+     * Changes are sent only while chunk of meta tile entity is tracked by any player
+     * Players opening UI are always tracking it, and players starting to track chunk
+     * receive actual values with initial sync data, so nothing is lost while nobody watches
+     */
+    public SyncPolicy onlyWhenWatched() {
+        return new SyncPolicy(syncInterval, relativeThreshold, maxSyncDelay, true);
+    }
+
+    public int getSyncInterval() {
+        return syncInterval;
+    }
+
+    public double getRelativeThreshold() {
+        return relativeThreshold;
+    }
+
+    public int getMaxSyncDelay() {
+        return maxSyncDelay;
+    }
+
+    public boolean isOnlyWhenWatched() {
+        return onlyWhenWatched;
+    }
+
+    public boolean hasRelativeThreshold() {
+        return relativeThreshold > 0.0;
+    }
+
+    /**
+     * @return true if change from last sent value to new value is big enough to be sent now
+     */
+    public boolean isSignificantChange(long lastSyncedValue, long newValue) {
+        if(!hasRelativeThreshold())
+            return true;
+        long difference = Math.abs(newValue - lastSyncedValue);
+        return difference > 0 && difference >= relativeThreshold * Math.abs(lastSyncedValue);
+    }
+
+}
@@ -7,6 +7,7 @@ import gregtech.api.GTValues;
 import gregtech.api.capability.impl.EnergyRecipeMapWorkableHandler;
 import gregtech.api.capability.impl.FilteredFluidHandler;
 import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.capability.impl.TrackedItemStackHandler;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.render.OrientedOverlayRenderer;
@@ -14,7 +15,6 @@ import net.minecraft.client.resources.I18n;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
@@ -51,13 +51,13 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
     @Override
     protected IItemHandlerModifiable createImportItemHandler() {
         if(workable == null) return new ItemStackHandler(0);
-        return new ItemStackHandler(workable.recipeMap.getMaxInputs());
+        return new TrackedItemStackHandler(workable.recipeMap.getMaxInputs());
     }
 
     @Override
     protected IItemHandlerModifiable createExportItemHandler() {
         if(workable == null) return new ItemStackHandler(0);
-        return new ItemStackHandler(workable.recipeMap.getMaxOutputs());
+        return new TrackedItemStackHandler(workable.recipeMap.getMaxOutputs());
     }
 
     @Override
@@ -75,9 +75,9 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
     @Override
     protected FluidTankList createExportFluidHandler() {
         if(workable == null) return new FluidTankList();
-        FluidTank[] fluidExports = new FluidTank[workable.recipeMap.getMaxFluidOutputs()];
+        FilteredFluidHandler[] fluidExports = new FilteredFluidHandler[workable.recipeMap.getMaxFluidOutputs()];
         for(int i = 0; i < fluidExports.length; i++) {
-            fluidExports[i] = new FluidTank(getOutputTankCapacity(i));
+            fluidExports[i] = new FilteredFluidHandler(getOutputTankCapacity(i));
         }
         return new FluidTankList(fluidExports);
     }
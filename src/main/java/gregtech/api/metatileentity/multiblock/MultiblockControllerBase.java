@@ -10,12 +10,15 @@ import gregtech.api.multiblock.BlockWorldState;
 import gregtech.api.multiblock.IPatternCenterPredicate;
 import gregtech.api.multiblock.PatternMatchContext;
 import gregtech.api.render.ICubeRenderer;
+import gregtech.common.ConfigHolder;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.*;
@@ -32,6 +35,10 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
     private boolean validationSuccess;
+    //volume registered in MultiblockStructureTracker, null if not registered yet
+    private StructureBoundingBox watchedBounds;
+    private EnumFacing watchedFacing;
+    private boolean structureCheckPending = true;
 
     public MultiblockControllerBase(String metaTileEntityId) {
         super(metaTileEntityId);
@@ -41,13 +48,24 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     protected void reinitializeStructurePattern() {
         this.structurePattern = createStructurePattern();
         this.validationPredicate = getValidationPredicate();
+        this.watchedFacing = null;
     }
 
     @Override
     public void update() {
         super.update();
         if(!getWorld().isRemote) {
-            if(getTimer() % 20 == 0) {
+            if(watchedFacing != getFrontFacing()) {
+                //structure volume depends on facing, so register it again when it changes
+                unwatchStructure();
+                this.watchedFacing = getFrontFacing();
+                this.watchedBounds = structurePattern.getStructureBounds(getPos(), watchedFacing.getOpposite());
+                MultiblockStructureTracker.watchStructure(this, watchedBounds);
+                this.structureCheckPending = true;
+            }
+            int verificationInterval = ConfigHolder.multiblockStructureVerificationInterval;
+            if(structureCheckPending || (verificationInterval > 0 && getTimer() % verificationInterval == 0)) {
+                this.structureCheckPending = false;
                 checkStructurePattern();
             }
             if(isStructureFormed()) {
@@ -120,6 +138,30 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         return getBaseTexture().getParticleSprite();
     }
 
+    /**
+     * Called by {@link MultiblockStructureTracker} when block in the volume of this structure is changed.
+     * Structure is re-checked on the next update of this controller
+     */
+    public void onStructureBlockChanged(BlockPos blockPos) {
+        if(watchedBounds != null && watchedBounds.isVecInside(blockPos)) {
+            this.structureCheckPending = true;
+        }
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        unwatchStructure();
+    }
+
+    private void unwatchStructure() {
+        if(watchedBounds != null) {
+            MultiblockStructureTracker.unwatchStructure(this, watchedBounds);
+            this.watchedBounds = null;
+            this.watchedFacing = null;
+        }
+    }
+
     protected void checkStructurePattern() {
         EnumFacing facing = getFrontFacing().getOpposite();
         PatternMatchContext context = structurePattern.checkPatternAt(getWorld(), getPos(), facing);
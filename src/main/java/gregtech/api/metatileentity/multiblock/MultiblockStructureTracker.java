@@ -0,0 +1,84 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks volumes covered by multiblock structures and notifies controllers
+ * when block inside of their volume is changed, so idle structures don't need to be re-checked every N ticks.
+ * Volumes are indexed by chunks they intersect, so block change lookup doesn't depend on amount of multiblocks in world.
+ */
+public class MultiblockStructureTracker {
+
+    private static final Map<World, TLongObjectMap<List<MultiblockControllerBase>>> WATCHED_CHUNKS = new WeakHashMap<>();
+
+    public static void init() {
+        MinecraftForge.EVENT_BUS.register(MultiblockStructureTracker.class);
+    }
+
+    public static void watchStructure(MultiblockControllerBase controller, StructureBoundingBox structureBounds) {
+        TLongObjectMap<List<MultiblockControllerBase>> chunkMap = WATCHED_CHUNKS.computeIfAbsent(controller.getWorld(), k -> new TLongObjectHashMap<>());
+        for(int chunkX = structureBounds.minX >> 4; chunkX <= structureBounds.maxX >> 4; chunkX++) {
+            for(int chunkZ = structureBounds.minZ >> 4; chunkZ <= structureBounds.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<MultiblockControllerBase> controllers = chunkMap.get(chunkKey);
+                if(controllers == null) {
+                    controllers = new ArrayList<>(1);
+                    chunkMap.put(chunkKey, controllers);
+                }
+                controllers.add(controller);
+            }
+        }
+    }
+
+    public static void unwatchStructure(MultiblockControllerBase controller, StructureBoundingBox structureBounds) {
+        TLongObjectMap<List<MultiblockControllerBase>> chunkMap = WATCHED_CHUNKS.get(controller.getWorld());
+        if(chunkMap == null)
+            return;
+        for(int chunkX = structureBounds.minX >> 4; chunkX <= structureBounds.maxX >> 4; chunkX++) {
+            for(int chunkZ = structureBounds.minZ >> 4; chunkZ <= structureBounds.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<MultiblockControllerBase> controllers = chunkMap.get(chunkKey);
+                if(controllers != null && controllers.remove(controller) && controllers.isEmpty()) {
+                    chunkMap.remove(chunkKey);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(NeighborNotifyEvent event) {
+        World world = event.getWorld();
+        if(world.isRemote)
+            return;
+        TLongObjectMap<List<MultiblockControllerBase>> chunkMap = WATCHED_CHUNKS.get(world);
+        if(chunkMap == null)
+            return;
+        BlockPos blockPos = event.getPos();
+        List<MultiblockControllerBase> controllers = chunkMap.get(ChunkPos.asLong(blockPos.getX() >> 4, blockPos.getZ() >> 4));
+        if(controllers == null)
+            return;
+        for(MultiblockControllerBase controller : controllers) {
+            controller.onStructureBlockChanged(blockPos);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        WATCHED_CHUNKS.remove(event.getWorld());
+    }
+
+}
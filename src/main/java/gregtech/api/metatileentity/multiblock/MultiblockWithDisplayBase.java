@@ -29,11 +29,21 @@ public abstract class MultiblockWithDisplayBase extends MultiblockControllerBase
         }
     }
 
+    /**
+     * Called serverside to obtain hash of all values displayed by {@link #addDisplayText(List)}
+     * Display text is rebuilt and sent to clients only when this hash changes,
+     * so override it together with addDisplayText and combine hash of superclass with your values
+     */
+    protected int getDisplayTextHash() {
+        return Boolean.hashCode(isStructureFormed());
+    }
+
     protected ModularUI.Builder createUITemplate(EntityPlayer entityPlayer) {
         ModularUI.Builder builder = ModularUI.extendedBuilder();
         builder.image(7, 4, 162, 121, GuiTextures.DISPLAY);
         builder.label(10, 7, getMetaFullName(), 0xFFFFFF);
         builder.widget(new AdvancedTextWidget(10, 17, this::addDisplayText, 0xFFFFFF)
+            .setSourceHashSupplier(this::getDisplayTextHash)
             .setMaxWidthLimit(156));
         builder.bindPlayerInventory(entityPlayer.inventory, 134);
         return builder;
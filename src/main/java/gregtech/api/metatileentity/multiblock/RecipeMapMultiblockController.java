@@ -95,6 +95,7 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
 
     @Override
     protected void initializeInventory() {
+        clearCapabilityCache();
         ItemStackHandler emptyInventory = new ItemStackHandler(0);
         FluidTankList emptyFluidInventory = new FluidTankList();
         this.itemInventory = new ItemHandlerProxy(emptyInventory, emptyInventory);
@@ -142,6 +143,21 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
         }
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        if(isStructureFormed()) {
+            IEnergyContainer energyContainer = recipeMapWorkable.getEnergyContainer();
+            hash = 31 * hash + Long.hashCode(energyContainer.getEnergyCapacity() > 0 ? energyContainer.getInputVoltage() : 0L);
+            hash = 31 * hash + Boolean.hashCode(recipeMapWorkable.isWorkingEnabled());
+            hash = 31 * hash + Boolean.hashCode(recipeMapWorkable.isActive());
+            hash = 31 * hash + (int) (recipeMapWorkable.getProgressPercent() * 100);
+            hash = 31 * hash + recipeMapWorkable.getRecipeEUt();
+            hash = 31 * hash + Boolean.hashCode(recipeMapWorkable.isHasNotEnoughEnergy());
+        }
+        return hash;
+    }
+
     @Override
     protected BooleanSupplier getValidationPredicate() {
         return () -> {
@@ -7,7 +7,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
-import org.apache.commons.lang3.ArrayUtils;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 
 import java.util.*;
 import java.util.function.*;
@@ -24,7 +24,13 @@ public class BlockPattern {
     private final RelativeDirection[] structureDir;
     private final int[][] aisleRepetitions;
 
-    private static final EnumFacing[] ALLOWED_FACINGS = EnumFacing.HORIZONTALS;
+    //tables below are precomputed for every horizontal facing, indexed by EnumFacing.getHorizontalIndex
+    //3x3 matrices converting relative x, y, z offset into actual x, y, z offset
+    private final int[][] rotationMatrices = new int[4][];
+    //x, y, z actual offsets of every block in aisle slice (relative z = 0), in the same order as aislePredicates
+    private final int[][] sliceOffsets = new int[4][];
+    private final Predicate<BlockWorldState>[][] aislePredicates; //[z][y * palmLength + x]
+
     // x, y, z, minZ, maxZ
     private int[] centerOffset = null;
 
@@ -46,8 +52,52 @@ public class BlockPattern {
         }
         this.structureDir = structureDir;
         this.aisleRepetitions = aisleRepetitions;
+        this.aislePredicates = flattenAislePredicates(predicatesIn);
 
         initializeCenterOffsets();
+        initializeRotationTables();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<BlockWorldState>[][] flattenAislePredicates(Predicate<BlockWorldState>[][][] predicatesIn) {
+        Predicate<BlockWorldState>[][] result = (Predicate<BlockWorldState>[][]) new Predicate[fingerLength][];
+        for (int z = 0; z < fingerLength; z++) {
+            result[z] = (Predicate<BlockWorldState>[]) new Predicate[thumbLength * palmLength];
+            for (int y = 0; y < thumbLength; y++) {
+                System.arraycopy(predicatesIn[z][y], 0, result[z], y * palmLength, palmLength);
+            }
+        }
+        return result;
+    }
+
+    private void initializeRotationTables() {
+        for (EnumFacing facing : EnumFacing.HORIZONTALS) {
+            int[] rotationMatrix = new int[9];
+            for (int i = 0; i < 3; i++) {
+                switch (structureDir[i].getActualFacing(facing)) {
+                    case UP: rotationMatrix[3 + i] = 1; break;
+                    case DOWN: rotationMatrix[3 + i] = -1; break;
+                    case WEST: rotationMatrix[i] = -1; break;
+                    case EAST: rotationMatrix[i] = 1; break;
+                    case NORTH: rotationMatrix[6 + i] = -1; break;
+                    case SOUTH: rotationMatrix[6 + i] = 1; break;
+                }
+            }
+            int facingIndex = facing.getHorizontalIndex();
+            this.rotationMatrices[facingIndex] = rotationMatrix;
+
+            int[] offsets = new int[thumbLength * palmLength * 3];
+            MutableBlockPos offsetPos = new MutableBlockPos();
+            for (int b = 0, i = 0; b < thumbLength; b++) {
+                for (int a = 0; a < palmLength; a++, i += 3) {
+                    setActualRelativeOffset(offsetPos, a - centerOffset[0], b - centerOffset[1], 0, facing);
+                    offsets[i] = offsetPos.getX();
+                    offsets[i + 1] = offsetPos.getY();
+                    offsets[i + 2] = offsetPos.getZ();
+                }
+            }
+            this.sliceOffsets[facingIndex] = offsets;
+        }
     }
 
     private void initializeCenterOffsets() {
@@ -79,7 +129,29 @@ public class BlockPattern {
         return this.palmLength;
     }
 
+    /**
+     * @return bounding box of all blocks which can be part of this pattern
+     * with given center position and facing, assuming maximum amount of aisle repetitions
+     */
+    public StructureBoundingBox getStructureBounds(BlockPos centerPos, EnumFacing facing) {
+        int maxAisleCount = 0;
+        for(int[] aisleRepetition : aisleRepetitions) {
+            maxAisleCount += aisleRepetition[1];
+        }
+        //first aisle can start anywhere between these offsets, see checkPatternAt
+        MutableBlockPos firstCorner = setActualRelativeOffset(new MutableBlockPos(),
+            -centerOffset[0], -centerOffset[1], -centerOffset[4], facing);
+        MutableBlockPos secondCorner = setActualRelativeOffset(new MutableBlockPos(),
+            palmLength - 1 - centerOffset[0], thumbLength - 1 - centerOffset[1], maxAisleCount - 1 - centerOffset[3], facing);
+        return new StructureBoundingBox(firstCorner.add(centerPos), secondCorner.add(centerPos));
+    }
+
     public PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing facing) {
+        int facingIndex = getFacingIndex(facing);
+        int[] rotationMatrix = this.rotationMatrices[facingIndex];
+        int[] sliceOffsets = this.sliceOffsets[facingIndex];
+        //moving to the next aisle is the same as moving by relative z
+        int aisleStepX = rotationMatrix[2], aisleStepY = rotationMatrix[5], aisleStepZ = rotationMatrix[8];
         BlockWorldState worldState = new BlockWorldState();
         MutableBlockPos blockPos = new MutableBlockPos();
         PatternMatchContext matchContext = new PatternMatchContext();
@@ -89,29 +161,30 @@ public class BlockPattern {
 
             loop:for (r = 0; (findFirstAisle ? r < aisleRepetitions[c][1] : z <= -centerOffset[3]); r++) {//Checking repeatable slices
 
-                for (int b = 0, y = -centerOffset[1]; b < this.thumbLength; b++, y++) {//Checking single slice
-                    for (int a = 0, x = -centerOffset[0]; a < this.palmLength; a++, x++) {
-                        Predicate<BlockWorldState> predicate = this.blockMatches[c][b][a];
-                        setActualRelativeOffset(blockPos, x, y, z, facing);
-                        blockPos.setPos(blockPos.getX() + centerPos.getX(), blockPos.getY() + centerPos.getY(), blockPos.getZ() + centerPos.getZ());
-                        if(DEBUG_STRUCTURES) {
-                            EnumDyeColor dyeColor = EnumDyeColor.values()[new Random(predicate.hashCode()).nextInt(15)];
-                            world.setBlockState(blockPos, Blocks.WOOL.getDefaultState().withProperty(BlockColored.COLOR, dyeColor));
-                        } else {
-                            worldState.update(world, blockPos, matchContext);
-                            if (!predicate.test(worldState)) {
-                                if (findFirstAisle) {
-                                    if (r < aisleRepetitions[c][0]) {//retreat to see if the first aisle can start later
-                                        r = c = 0;
-                                        z = minZ++;
-                                        matchContext.reset();
-                                        findFirstAisle = false;
-                                    }
-                                } else {
-                                    z++;//continue searching for the first aisle
+                Predicate<BlockWorldState>[] predicates = this.aislePredicates[c];
+                int aisleX = centerPos.getX() + z * aisleStepX;
+                int aisleY = centerPos.getY() + z * aisleStepY;
+                int aisleZ = centerPos.getZ() + z * aisleStepZ;
+                for (int i = 0; i < predicates.length; i++) {//Checking single slice
+                    Predicate<BlockWorldState> predicate = predicates[i];
+                    blockPos.setPos(aisleX + sliceOffsets[i * 3], aisleY + sliceOffsets[i * 3 + 1], aisleZ + sliceOffsets[i * 3 + 2]);
+                    if(DEBUG_STRUCTURES) {
+                        EnumDyeColor dyeColor = EnumDyeColor.values()[new Random(predicate.hashCode()).nextInt(15)];
+                        world.setBlockState(blockPos, Blocks.WOOL.getDefaultState().withProperty(BlockColored.COLOR, dyeColor));
+                    } else {
+                        worldState.update(world, blockPos, matchContext);
+                        if (!predicate.test(worldState)) {
+                            if (findFirstAisle) {
+                                if (r < aisleRepetitions[c][0]) {//retreat to see if the first aisle can start later
+                                    r = c = 0;
+                                    z = minZ++;
+                                    matchContext.reset();
+                                    findFirstAisle = false;
                                 }
-                                continue loop;
+                            } else {
+                                z++;//continue searching for the first aisle
                             }
+                            continue loop;
                         }
                     }
                 }
@@ -127,21 +200,15 @@ public class BlockPattern {
         return matchContext;
     }
 
+    private static int getFacingIndex(EnumFacing facing) {
+        int facingIndex = facing.getHorizontalIndex();
+        if (facingIndex == -1) throw new IllegalArgumentException("Can rotate only horizontally");
+        return facingIndex;
+    }
+
     private MutableBlockPos setActualRelativeOffset(MutableBlockPos pos, int x, int y, int z, EnumFacing facing) {
-        if (!ArrayUtils.contains(ALLOWED_FACINGS, facing)) throw new IllegalArgumentException("Can rotate only horizontally");
-
-        int[] c0 = new int[]{x, y, z}, c1 = new int[3];
-        for (int i = 0; i < 3; i++) {
-            switch (structureDir[i].getActualFacing(facing)) {
-                case UP: c1[1] = c0[i]; break;
-                case DOWN: c1[1] = -c0[i]; break;
-                case WEST: c1[0] = -c0[i]; break;
-                case EAST: c1[0] = c0[i]; break;
-                case NORTH: c1[2] = -c0[i]; break;
-                case SOUTH: c1[2] = c0[i]; break;
-            }
-        }
-        return pos.setPos(c1[0], c1[1], c1[2]);
+        int[] m = this.rotationMatrices[getFacingIndex(facing)];
+        return pos.setPos(m[0] * x + m[1] * y + m[2] * z, m[3] * x + m[4] * y + m[5] * z, m[6] * x + m[7] * y + m[8] * z);
     }
 
     /**
@@ -21,7 +21,7 @@ import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-import java.util.HashMap;
+import java.util.*;
 
 public class NetworkHandler {
 
@@ -29,6 +29,21 @@ public class NetworkHandler {
         default FMLProxyPacket toFMLPacket() {
             return packet2proxy(this);
         }
+
+        /**
+         * @return exact amount of bytes written by packet encoder, or -1 if it isn't known in advance
+         * Packets which know their size are encoded into exactly sized buffer, without growing it
+         */
+        default int getEncodedSize() {
+            return -1;
+        }
+
+        /**
+         * Releases buffers retained by packet decoder. Called after packet is executed,
+         * so executors keeping packet data for later should retain it themselves
+         */
+        default void release() {
+        }
     }
 
     @FunctionalInterface
@@ -61,8 +76,13 @@ public class NetworkHandler {
     @SideOnly(Side.CLIENT) private static HashMap<Class<? extends Packet>, PacketExecutor<? extends Packet, NetHandlerPlayClient>> clientExecutors;
     private static final HashMap<Class<? extends Packet>, PacketExecutor<? extends Packet, NetHandlerPlayServer>> serverExecutors = new HashMap<>();
     private static final IntIdentityHashBiMap<Class<? extends Packet>> packetMap = new IntIdentityHashBiMap<>(10);
+    //integrated server shares this class with client, so statistics are kept separately for each side
+    private static final Map<Side, Map<Class<? extends Packet>, PacketStatistics>> statisticsMap = new EnumMap<>(Side.class);
 
     static {
+        for(Side side : Side.values()) {
+            statisticsMap.put(side, new LinkedHashMap<>());
+        }
         if(FMLCommonHandler.instance().getSide().isClient()) {
             clientExecutors = new HashMap<>();
         }
@@ -78,43 +98,57 @@ public class NetworkHandler {
 
         registerPacket(1, PacketUIOpen.class, new PacketCodec<>(
             (packet, buf) -> {
-                buf.writeInt(packet.uiFactoryId);
-                buf.writeInt(packet.serializedHolder.readableBytes());
+                buf.writeVarInt(packet.uiFactoryId);
+                buf.writeVarInt(packet.serializedHolder.readableBytes());
                 buf.writeBytes(packet.serializedHolder);
-                buf.writeInt(packet.windowId);
+                buf.writeVarInt(packet.windowId);
             },
             (buf) -> new PacketUIOpen(
-                buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt())),
-                buf.readInt()
+                buf.readVarInt(),
+                new PacketBuffer(buf.readRetainedSlice(buf.readVarInt())),
+                buf.readVarInt()
             )
         ));
 
         registerPacket(2, PacketUIWidgetUpdate.class, new PacketCodec<>(
             (packet, buf) -> {
-                buf.writeInt(packet.windowId);
-                buf.writeInt(packet.widgetId);
-                buf.writeInt(packet.updateData.readableBytes());
+                buf.writeVarInt(packet.windowId);
+                buf.writeVarInt(packet.widgetId);
+                buf.writeVarInt(packet.updateData.readableBytes());
                 buf.writeBytes(packet.updateData);
             },
             (buf) -> new PacketUIWidgetUpdate(
-                buf.readInt(),
-                buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt()))
+                buf.readVarInt(),
+                buf.readVarInt(),
+                new PacketBuffer(buf.readRetainedSlice(buf.readVarInt()))
             )
         ));
 
         registerPacket(3, PacketUIClientAction.class, new PacketCodec<>(
             (packet, buf) -> {
-                buf.writeInt(packet.windowId);
-                buf.writeInt(packet.widgetId);
-                buf.writeInt(packet.updateData.readableBytes());
+                buf.writeVarInt(packet.windowId);
+                buf.writeVarInt(packet.widgetId);
+                buf.writeVarInt(packet.updateData.readableBytes());
                 buf.writeBytes(packet.updateData);
             },
             (buf) -> new PacketUIClientAction(
-                buf.readInt(),
-                buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt()))
+                buf.readVarInt(),
+                buf.readVarInt(),
+                new PacketBuffer(buf.readRetainedSlice(buf.readVarInt()))
+            )
+        ));
+
+        registerPacket(4, PacketUIWidgetBatchUpdate.class, new PacketCodec<>(
+            (packet, buf) -> {
+                buf.writeVarInt(packet.windowId);
+                buf.writeVarInt(packet.updateCount);
+                buf.writeVarInt(packet.updateData.readableBytes());
+                buf.writeBytes(packet.updateData, packet.updateData.readerIndex(), packet.updateData.readableBytes());
+            },
+            (buf) -> new PacketUIWidgetBatchUpdate(
+                buf.readVarInt(),
+                buf.readVarInt(),
+                new PacketBuffer(buf.readRetainedSlice(buf.readVarInt()))
             )
         ));
 
@@ -140,12 +174,31 @@ public class NetworkHandler {
             UIFactory<?> uiFactory = UIFactory.FACTORY_REGISTRY.getObjectById(packet.uiFactoryId);
             uiFactory.initClientUI(packet.serializedHolder, packet.windowId);
         });
-        registerClientExecutor(PacketUIWidgetUpdate.class, (packet, handler) -> ModularUIGui.queuingWidgetUpdates.add(packet));
+        registerClientExecutor(PacketUIWidgetUpdate.class, (packet, handler) -> {
+            //queued packets are released by ModularUIGui when they are processed
+            packet.updateData.retain();
+            ModularUIGui.queuingWidgetUpdates.add(packet);
+        });
+        registerClientExecutor(PacketUIWidgetBatchUpdate.class, (packet, handler) -> ModularUIGui.queuingWidgetUpdates.addAll(packet.splitUpdates()));
     }
 
     public static <T extends Packet> void registerPacket(int packetId, Class<T> packetClass, PacketCodec<T> codec) {
         packetMap.put(packetClass, packetId);
         codecMap.put(packetClass, codec);
+        for(Map<Class<? extends Packet>, PacketStatistics> sideStatistics : statisticsMap.values()) {
+            sideStatistics.put(packetClass, new PacketStatistics(packetClass.getSimpleName()));
+        }
+    }
+
+    /**
+     * @return packet counters of every registered packet type, sent and received by given side
+     */
+    public static Collection<PacketStatistics> getPacketStatistics(Side side) {
+        return Collections.unmodifiableCollection(statisticsMap.get(side).values());
+    }
+
+    private static PacketStatistics getStatistics(Side side, Class<?> packetClass) {
+        return statisticsMap.get(side).get(packetClass);
     }
 
     @SideOnly(Side.CLIENT)
@@ -160,17 +213,32 @@ public class NetworkHandler {
     @SuppressWarnings("unchecked")
     public static FMLProxyPacket packet2proxy(Packet packet) {
         PacketCodec<Packet> codec = (PacketCodec<Packet>) codecMap.get(packet.getClass());
-        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
-        buf.writeInt(packetMap.getId(packet.getClass()));
+        int packetId = packetMap.getId(packet.getClass());
+        int encodedSize = packet.getEncodedSize();
+        //FML never releases proxy packet payloads, so buffer can't be pooled, but it can be allocated once
+        PacketBuffer buf = new PacketBuffer(encodedSize >= 0 ?
+            Unpooled.buffer(PacketBuffer.getVarIntSize(packetId) + encodedSize) : Unpooled.buffer());
+        buf.writeVarInt(packetId);
         codec.encoder.encode(packet, buf);
+        getStatistics(FMLCommonHandler.instance().getEffectiveSide(), packet.getClass()).recordSent(buf.readableBytes());
         return new FMLProxyPacket(buf, GTValues.MODID);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Decodes packet from proxy packet payload. Data of decoded packet can be a retained slice
+     * of payload, so {@link Packet#release()} should be called once packet is handled
+     */
     public static Packet proxy2packet(FMLProxyPacket packet) {
+        return proxy2packet(packet, FMLCommonHandler.instance().getEffectiveSide());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Packet proxy2packet(FMLProxyPacket packet, Side receivingSide) {
         PacketBuffer payload = (PacketBuffer) packet.payload();
-        Class<Packet> packetClass = (Class<Packet>) packetMap.get(payload.readInt());
+        int payloadSize = payload.readableBytes();
+        Class<Packet> packetClass = (Class<Packet>) packetMap.get(payload.readVarInt());
         PacketCodec<Packet> codec = (PacketCodec<Packet>) codecMap.get(packetClass);
+        getStatistics(receivingSide, packetClass).recordReceived(payloadSize);
         return codec.decoder.decode(payload);
     }
 
@@ -178,20 +246,28 @@ public class NetworkHandler {
     @SideOnly(Side.CLIENT)
     @SuppressWarnings("unchecked")
     public void onClientPacket(FMLNetworkEvent.ClientCustomPacketEvent event) {
-        Packet packet = proxy2packet(event.getPacket());
-        if(clientExecutors.containsKey(packet.getClass())) {
-            PacketExecutor<Packet, NetHandlerPlayClient> executor = (PacketExecutor<Packet, NetHandlerPlayClient>) clientExecutors.get(packet.getClass());
-            executor.execute(packet, (NetHandlerPlayClient) event.getHandler());
+        Packet packet = proxy2packet(event.getPacket(), Side.CLIENT);
+        try {
+            if(clientExecutors.containsKey(packet.getClass())) {
+                PacketExecutor<Packet, NetHandlerPlayClient> executor = (PacketExecutor<Packet, NetHandlerPlayClient>) clientExecutors.get(packet.getClass());
+                executor.execute(packet, (NetHandlerPlayClient) event.getHandler());
+            }
+        } finally {
+            packet.release();
         }
     }
 
     @SubscribeEvent
     @SuppressWarnings("unchecked")
     public void onServerPacket(FMLNetworkEvent.ServerCustomPacketEvent event) {
-        Packet packet = proxy2packet(event.getPacket());
-        if(serverExecutors.containsKey(packet.getClass())) {
-            PacketExecutor<Packet, NetHandlerPlayServer> executor = (PacketExecutor<Packet, NetHandlerPlayServer>) serverExecutors.get(packet.getClass());
-            executor.execute(packet, (NetHandlerPlayServer) event.getHandler());
+        Packet packet = proxy2packet(event.getPacket(), Side.SERVER);
+        try {
+            if(serverExecutors.containsKey(packet.getClass())) {
+                PacketExecutor<Packet, NetHandlerPlayServer> executor = (PacketExecutor<Packet, NetHandlerPlayServer>) serverExecutors.get(packet.getClass());
+                executor.execute(packet, (NetHandlerPlayServer) event.getHandler());
+            }
+        } finally {
+            packet.release();
         }
     }
 }
@@ -0,0 +1,58 @@
+package gregtech.api.net;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts packets and bytes of single packet type passing through {@link NetworkHandler}
+ * Packets are received on netty threads, so counters are safe to update concurrently
+ */
+public class PacketStatistics {
+
+    private final String packetName;
+    private final LongAdder sentPackets = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder receivedPackets = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+
+    public PacketStatistics(String packetName) {
+        this.packetName = packetName;
+    }
+
+    void recordSent(int bytes) {
+        sentPackets.increment();
+        sentBytes.add(bytes);
+    }
+
+    void recordReceived(int bytes) {
+        receivedPackets.increment();
+        receivedBytes.add(bytes);
+    }
+
+    public void reset() {
+        sentPackets.reset();
+        sentBytes.reset();
+        receivedPackets.reset();
+        receivedBytes.reset();
+    }
+
+    public String getPacketName() {
+        return packetName;
+    }
+
+    public long getSentPackets() {
+        return sentPackets.sum();
+    }
+
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    public long getReceivedPackets() {
+        return receivedPackets.sum();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+}
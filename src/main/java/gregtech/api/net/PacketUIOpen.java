@@ -14,4 +14,15 @@ public class PacketUIOpen implements NetworkHandler.Packet {
         this.windowId = windowId;
     }
 
+    @Override
+    public int getEncodedSize() {
+        return PacketBuffer.getVarIntSize(uiFactoryId) + PacketBuffer.getVarIntSize(serializedHolder.readableBytes()) +
+            serializedHolder.readableBytes() + PacketBuffer.getVarIntSize(windowId);
+    }
+
+    @Override
+    public void release() {
+        serializedHolder.release();
+    }
+
 }
@@ -0,0 +1,49 @@
+package gregtech.api.net;
+
+import net.minecraft.network.PacketBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carries all widget updates produced by single container during one tick
+ * Update data consists of updateCount entries, each framed as varint widget id, varint length and update bytes
+ */
+public class PacketUIWidgetBatchUpdate implements NetworkHandler.Packet {
+
+    public final int windowId;
+    public final int updateCount;
+    public final PacketBuffer updateData;
+
+    public PacketUIWidgetBatchUpdate(int windowId, int updateCount, PacketBuffer updateData) {
+        this.windowId = windowId;
+        this.updateCount = updateCount;
+        this.updateData = updateData;
+    }
+
+    /**
+     * Splits this batch into separate widget updates, in the same order as they were written on server
+     * Data of returned updates is retained separately, so they should be released when they are processed
+     */
+    public List<PacketUIWidgetUpdate> splitUpdates() {
+        List<PacketUIWidgetUpdate> result = new ArrayList<>(updateCount);
+        for(int i = 0; i < updateCount; i++) {
+            int widgetId = updateData.readVarInt();
+            PacketBuffer widgetData = new PacketBuffer(updateData.readRetainedSlice(updateData.readVarInt()));
+            result.add(new PacketUIWidgetUpdate(windowId, widgetId, widgetData));
+        }
+        return result;
+    }
+
+    @Override
+    public int getEncodedSize() {
+        return PacketBuffer.getVarIntSize(windowId) + PacketBuffer.getVarIntSize(updateCount) +
+            PacketBuffer.getVarIntSize(updateData.readableBytes()) + updateData.readableBytes();
+    }
+
+    @Override
+    public void release() {
+        updateData.release();
+    }
+
+}
@@ -14,4 +14,15 @@ public class PacketUIWidgetUpdate implements NetworkHandler.Packet {
         this.updateData = updateData;
     }
 
+    @Override
+    public int getEncodedSize() {
+        return PacketBuffer.getVarIntSize(windowId) + PacketBuffer.getVarIntSize(widgetId) +
+            PacketBuffer.getVarIntSize(updateData.readableBytes()) + updateData.readableBytes();
+    }
+
+    @Override
+    public void release() {
+        updateData.release();
+    }
+
 }
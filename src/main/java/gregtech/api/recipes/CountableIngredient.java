@@ -1,11 +1,11 @@
 package gregtech.api.recipes;
 
+import gregtech.api.recipes.ingredients.OreDictIngredient;
 import gregtech.api.unification.material.type.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
-import net.minecraftforge.oredict.OreIngredient;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -21,11 +21,11 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(String oredict) {
-        return new CountableIngredient(new OreIngredient(oredict), 1);
+        return new CountableIngredient(new OreDictIngredient(oredict), 1);
     }
 
     public static CountableIngredient from(String oredict, int count) {
-        return new CountableIngredient(new OreIngredient(oredict), count);
+        return new CountableIngredient(new OreDictIngredient(oredict), count);
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material) {
@@ -33,7 +33,7 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material, int count) {
-        return new CountableIngredient(new OreIngredient(new UnificationEntry(prefix, material).toString()), count);
+        return new CountableIngredient(new OreDictIngredient(new UnificationEntry(prefix, material).toString()), count);
     }
 
     private Ingredient ingredient;
@@ -5,6 +5,7 @@ import com.google.common.collect.ImmutableMap;
 import gnu.trove.impl.unmodifiable.TUnmodifiableObjectIntMap;
 import gnu.trove.map.TObjectIntMap;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.recipes.lookup.RecipeMatchContext;
 import gregtech.api.util.GTUtility;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
@@ -94,25 +95,45 @@ public class Recipe {
 	}
 
 	public boolean matches(boolean consumeIfSuccessful, boolean dontCheckStackSizes, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-		return matches(consumeIfSuccessful, dontCheckStackSizes, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+	    RecipeMatchContext context = RecipeMatchContext.current();
+	    if(!context.linkInputs(inputs, fluidInputs)) {
+	        //input views are already used up the stack, so fallback to fresh lists
+            return matches(consumeIfSuccessful, dontCheckStackSizes, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs), context);
+        }
+	    try {
+            return matches(consumeIfSuccessful, dontCheckStackSizes, context.getItemInputs(), context.getFluidInputs(), context);
+        } finally {
+	        context.releaseInputs();
+        }
 	}
 
 	public boolean matches(boolean consumeIfSuccessful, boolean dontCheckStackSizes, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-	    int[] fluidAmountInTank = new int[fluidInputs.size()];
-	    int[] itemAmountInSlot = new int[inputs.size()];
+	    return matches(consumeIfSuccessful, dontCheckStackSizes, inputs, fluidInputs, RecipeMatchContext.current());
+    }
 
-        for(int i = 0; i < fluidAmountInTank.length; i++) {
+    /**
+     * Checks if this recipe matches given inputs, using scratch arrays of given context,
+     * so this method doesn't allocate anything
+     */
+	public boolean matches(boolean consumeIfSuccessful, boolean dontCheckStackSizes, List<ItemStack> inputs, List<FluidStack> fluidInputs, RecipeMatchContext context) {
+	    int fluidTanks = fluidInputs.size();
+	    int itemSlots = inputs.size();
+	    int[] fluidAmountInTank = context.getFluidAmountInTank(fluidTanks);
+	    int[] itemAmountInSlot = context.getItemAmountInSlot(itemSlots);
+
+        for(int i = 0; i < fluidTanks; i++) {
             FluidStack fluidInTank = fluidInputs.get(i);
             fluidAmountInTank[i] = fluidInTank == null ? 0 : fluidInTank.amount;
         }
-        for(int i = 0; i < itemAmountInSlot.length; i++) {
+        for(int i = 0; i < itemSlots; i++) {
             ItemStack itemInSlot = inputs.get(i);
             itemAmountInSlot[i] = itemInSlot.isEmpty() ? 0 : itemInSlot.getCount();
         }
 
-        for (FluidStack fluid : this.fluidInputs) {
+        for (int fluidIndex = 0; fluidIndex < this.fluidInputs.size(); fluidIndex++) {
+            FluidStack fluid = this.fluidInputs.get(fluidIndex);
             int fluidAmount = fluid.amount;
-            for (int i = 0; i < fluidInputs.size(); i++) {
+            for (int i = 0; i < fluidTanks; i++) {
                 FluidStack tankFluid = fluidInputs.get(i);
                 if (tankFluid == null || !tankFluid.isFluidEqual(fluid))
                     continue;
@@ -125,14 +146,15 @@ public class Recipe {
                 return false;
         }
 
-        for(CountableIngredient ingredient : this.inputs) {
+        for(int ingredientIndex = 0; ingredientIndex < this.inputs.size(); ingredientIndex++) {
+            CountableIngredient ingredient = this.inputs.get(ingredientIndex);
             int ingredientAmount = ingredient.getCount();
             boolean isNotConsumed = false;
             if(ingredientAmount == 0) {
                 ingredientAmount = 1;
                 isNotConsumed = true;
             }
-            for (int i = 0; i < inputs.size(); i++) {
+            for (int i = 0; i < itemSlots; i++) {
                 ItemStack inputStack = inputs.get(i);
                 if (inputStack.isEmpty() || !ingredient.getIngredient().apply(inputStack))
                     continue;
@@ -146,7 +168,7 @@ public class Recipe {
         }
 
         if(consumeIfSuccessful) {
-            for(int i = 0; i < fluidAmountInTank.length; i++) {
+            for(int i = 0; i < fluidTanks; i++) {
                 FluidStack fluidStack = fluidInputs.get(i);
                 int fluidAmount = fluidAmountInTank[i];
                 if(fluidStack == null || fluidStack.amount == fluidAmount)
@@ -155,7 +177,7 @@ public class Recipe {
                 if(fluidStack.amount == 0)
                     fluidInputs.set(i, null);
             }
-            for(int i = 0; i < itemAmountInSlot.length; i++) {
+            for(int i = 0; i < itemSlots; i++) {
                 ItemStack itemInSlot = inputs.get(i);
                 int itemAmount = itemAmountInSlot[i];
                 if(itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
@@ -19,6 +19,8 @@ import gregtech.api.gui.widgets.TankWidget;
 import gregtech.api.recipes.builders.IntCircuitRecipeBuilder;
 import gregtech.api.recipes.crafttweaker.CTRecipe;
 import gregtech.api.recipes.crafttweaker.CTRecipeBuilder;
+import gregtech.api.recipes.lookup.RecipeLookupIndex;
+import gregtech.api.recipes.lookup.RecipeMatchContext;
 import gregtech.api.unification.material.type.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.util.GTLog;
@@ -61,6 +63,9 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final Map<Fluid, Collection<Recipe>> recipeFluidMap = new HashMap<>();
     private final Collection<Recipe> recipeList;
+    private final RecipeLookupIndex lookupIndex = new RecipeLookupIndex();
+    //incremented every time recipe is added or removed, used by machines to detect stale failed searches
+    private long modificationCount;
 
 	public RecipeMap(String unlocalizedName,
                      int minInputs, int maxInputs, int minOutputs, int maxOutputs,
@@ -158,6 +163,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 		}
 		Recipe recipe = validationResult.getResult();
 		recipeList.add(recipe);
+		lookupIndex.addRecipe(recipe);
+		this.modificationCount++;
 
 		for (FluidStack fluid : recipe.getFluidInputs()) {
 			recipeFluidMap.computeIfAbsent(fluid.getFluid(), k -> new HashSet<>(1)).add(recipe);
@@ -167,6 +174,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 	public boolean removeRecipe(Recipe recipe) {
 	    //if we actually removed this recipe
 	    if(recipeList.remove(recipe)) {
+	        lookupIndex.removeRecipe(recipe);
+	        this.modificationCount++;
 	        //also iterate trough fluid mappings and remove recipe from them
 	        recipeFluidMap.values().forEach(fluidMap ->
                 fluidMap.removeIf(fluidRecipe -> fluidRecipe == recipe));
@@ -175,9 +184,25 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return false;
     }
 
+    /**
+     * @return counter which changes every time recipe is added to or removed from this map
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Nullable
     public Recipe findRecipe(long voltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-        return this.findRecipe(voltage, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+        RecipeMatchContext context = RecipeMatchContext.current();
+        if (!context.linkInputs(inputs, fluidInputs)) {
+            //input views are already used up the stack, so fallback to fresh lists
+            return this.findRecipe(voltage, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+        }
+        try {
+            return this.findRecipe(voltage, context.getItemInputs(), context.getFluidInputs());
+        } finally {
+            context.releaseInputs();
+        }
     }
 
 	/**
@@ -198,38 +223,13 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (minInputs > 0 && GTUtility.amountOfNonEmptyStacks(inputs) < minInputs) {
             return null;
         }
-        if (maxInputs > 0) {
-            return findByInputs(voltage, inputs, fluidInputs);
-        } else {
-            return findByFluidInputs(voltage, inputs, fluidInputs);
-        }
-    }
-
-    @Nullable
-    private Recipe findByFluidInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (FluidStack fluid : fluidInputs) {
-            if (fluid == null) continue;
-            Collection<Recipe> recipes = recipeFluidMap.get(fluid.getFluid());
-            if (recipes == null) continue;
-            for (Recipe tmpRecipe : recipes) {
-                if (tmpRecipe.matches(false, false, inputs, fluidInputs)) {
-                    return voltage * amperage >= tmpRecipe.getEUt() ? tmpRecipe : null;
-                }
-            }
+        Recipe recipe = lookupIndex.findMatchingRecipe(inputs, fluidInputs, RecipeMatchContext.current());
+        if (recipe != null) {
+            return voltage * amperage >= recipe.getEUt() ? recipe : null;
         }
         return null;
     }
 
-	@Nullable
-	private Recipe findByInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (Recipe recipe : recipeList) {
-            if (recipe.matches(false, false, inputs, fluidInputs)) {
-                return voltage * amperage >= recipe.getEUt() ? recipe : null;
-            }
-        }
-		return null;
-	}
-
 	//this DOES NOT addFlag machine control widgets or binds player inventory
 	public ModularUI.Builder createUITemplate(DoubleSupplier progressSupplier, IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, FluidTankList importFluids, FluidTankList exportFluids) {
         ModularUI.Builder builder = ModularUI.defaultBuilder();
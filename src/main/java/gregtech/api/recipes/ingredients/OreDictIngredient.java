@@ -0,0 +1,29 @@
+package gregtech.api.recipes.ingredients;
+
+import net.minecraftforge.oredict.OreDictionary;
+import net.minecraftforge.oredict.OreIngredient;
+
+/**
+ * {@link OreIngredient} which remembers ore dictionary name it was created for,
+ * so recipe lookup can index it by ore dictionary id instead of current matching stacks
+ */
+public class OreDictIngredient extends OreIngredient {
+
+    private final String oreName;
+    private final int oreId;
+
+    public OreDictIngredient(String oreName) {
+        super(oreName);
+        this.oreName = oreName;
+        this.oreId = OreDictionary.getOreID(oreName);
+    }
+
+    public String getOreName() {
+        return oreName;
+    }
+
+    public int getOreId() {
+        return oreId;
+    }
+
+}
@@ -0,0 +1,41 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.IFluidTank;
+
+import java.util.AbstractList;
+
+/**
+ * Reusable version of {@link gregtech.api.util.GTUtility#fluidHandlerToList}, which can be linked to another handler
+ */
+final class FluidHandlerListView extends AbstractList<FluidStack> {
+
+    private IMultipleTankHandler fluidHandler;
+
+    void setFluidHandler(IMultipleTankHandler fluidHandler) {
+        this.fluidHandler = fluidHandler;
+    }
+
+    @Override
+    public FluidStack set(int index, FluidStack element) {
+        IFluidTank fluidTank = fluidHandler.getTankAt(index);
+        FluidStack oldStack = fluidTank.getFluid();
+        if(fluidTank instanceof FluidTank) {
+            ((FluidTank) fluidTank).setFluid(element);
+        }
+        return oldStack;
+    }
+
+    @Override
+    public FluidStack get(int index) {
+        return fluidHandler.getTankAt(index).getFluid();
+    }
+
+    @Override
+    public int size() {
+        return fluidHandler.getTanks();
+    }
+
+}
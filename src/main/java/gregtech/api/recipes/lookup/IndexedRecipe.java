@@ -0,0 +1,28 @@
+package gregtech.api.recipes.lookup;
+
+import gregtech.api.recipes.Recipe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry of {@link RecipeLookupIndex} holding recipe together with bit mask of its keyed ingredients
+ * and posting lists it was added to, so it can be removed without scanning the whole index
+ */
+final class IndexedRecipe {
+
+    final Recipe recipe;
+    //dense index of this entry, used to address per-search state in RecipeMatchContext
+    final int ordinal;
+    //registration order of this entry, unlike ordinal it's never reused
+    final long sequence;
+    final List<RecipePostingList> postings = new ArrayList<>();
+    long requiredMask;
+
+    IndexedRecipe(Recipe recipe, int ordinal, long sequence) {
+        this.recipe = recipe;
+        this.ordinal = ordinal;
+        this.sequence = sequence;
+    }
+
+}
@@ -0,0 +1,36 @@
+package gregtech.api.recipes.lookup;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandlerModifiable;
+
+import java.util.AbstractList;
+
+/**
+ * Reusable version of {@link gregtech.api.util.GTUtility#itemHandlerToList}, which can be linked to another handler
+ */
+final class ItemHandlerListView extends AbstractList<ItemStack> {
+
+    private IItemHandlerModifiable itemHandler;
+
+    void setItemHandler(IItemHandlerModifiable itemHandler) {
+        this.itemHandler = itemHandler;
+    }
+
+    @Override
+    public ItemStack set(int index, ItemStack element) {
+        ItemStack oldStack = itemHandler.getStackInSlot(index);
+        itemHandler.setStackInSlot(index, element == null ? ItemStack.EMPTY : element);
+        return oldStack;
+    }
+
+    @Override
+    public ItemStack get(int index) {
+        return itemHandler.getStackInSlot(index);
+    }
+
+    @Override
+    public int size() {
+        return itemHandler.getSlots();
+    }
+
+}
@@ -0,0 +1,187 @@
+package gregtech.api.recipes.lookup;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.GTValues;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.ingredients.OreDictIngredient;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreIngredient;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Inverted index over recipes of single {@link gregtech.api.recipes.RecipeMap},
+ * used to narrow recipe search down to recipes which can possibly match given inputs.<p>
+ *
+ * Every item ingredient is keyed by item and metadata of its matching stacks, or by ore dictionary id
+ * for {@link OreDictIngredient}, and every fluid input is keyed by its fluid. Each key maps to postings -
+ * recipes having ingredients with that key together with bit mask of these ingredients.
+ * Lookup combines postings of all given inputs, and only recipes which got all of their
+ * ingredient bits set are checked with {@link Recipe#matches}.<p>
+ *
+ * Ingredients which can't be keyed (without matching stacks, or ore ingredients with unknown ore name)
+ * are considered always present, so they never filter recipe out. Index relies on ingredient
+ * matching stacks covering everything ingredient accepts, just like JEI does.<p>
+ *
+ * Per-search state is kept in {@link RecipeMatchContext}, so lookup itself doesn't allocate anything.
+ */
+public class RecipeLookupIndex {
+
+    private static final int MAX_KEYED_INGREDIENTS = 64;
+
+    private final Map<Recipe, IndexedRecipe> indexedRecipes = new IdentityHashMap<>();
+    private final Map<Item, TIntObjectMap<RecipePostingList>> itemPostings = new IdentityHashMap<>();
+    private final TIntObjectMap<RecipePostingList> orePostings = new TIntObjectHashMap<>();
+    private final Map<Fluid, RecipePostingList> fluidPostings = new HashMap<>();
+    //recipes without any keyed ingredients, they are checked on every lookup
+    private final List<IndexedRecipe> unkeyedRecipes = new ArrayList<>();
+
+    private final TIntList freeOrdinals = new TIntArrayList();
+    private int nextOrdinal = 0;
+    private long nextSequence = 0L;
+
+    public void addRecipe(Recipe recipe) {
+        if(indexedRecipes.containsKey(recipe))
+            return;
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.removeAt(freeOrdinals.size() - 1);
+        IndexedRecipe indexedRecipe = new IndexedRecipe(recipe, ordinal, nextSequence++);
+        indexedRecipes.put(recipe, indexedRecipe);
+        List<CountableIngredient> inputs = recipe.getInputs();
+        List<FluidStack> fluidInputs = recipe.getFluidInputs();
+        if(inputs.size() + fluidInputs.size() > MAX_KEYED_INGREDIENTS) {
+            unkeyedRecipes.add(indexedRecipe);
+            return;
+        }
+
+        long requiredMask = 0L;
+        for(int i = 0; i < inputs.size(); i++) {
+            long ingredientBit = 1L << i;
+            if(addIngredientPostings(indexedRecipe, inputs.get(i).getIngredient(), ingredientBit)) {
+                requiredMask |= ingredientBit;
+            }
+        }
+        for(int i = 0; i < fluidInputs.size(); i++) {
+            long fluidBit = 1L << (inputs.size() + i);
+            Fluid fluid = fluidInputs.get(i).getFluid();
+            fluidPostings.computeIfAbsent(fluid, k -> new RecipePostingList()).add(indexedRecipe, fluidBit);
+            requiredMask |= fluidBit;
+        }
+
+        indexedRecipe.requiredMask = requiredMask;
+        if(requiredMask == 0L) {
+            unkeyedRecipes.add(indexedRecipe);
+        }
+    }
+
+    public boolean removeRecipe(Recipe recipe) {
+        IndexedRecipe indexedRecipe = indexedRecipes.remove(recipe);
+        if(indexedRecipe == null)
+            return false;
+        for(RecipePostingList postingList : indexedRecipe.postings) {
+            postingList.remove(indexedRecipe);
+        }
+        unkeyedRecipes.remove(indexedRecipe);
+        freeOrdinals.add(indexedRecipe.ordinal);
+        return true;
+    }
+
+    /**
+     * Finds earliest registered recipe which matches given inputs, without checking recipe voltage
+     * All candidates are checked, so result doesn't depend on order of inputs or postings
+     * @param context scratch state for this search, see {@link RecipeMatchContext#current()}
+     * @return matching recipe or null if there is none
+     */
+    @Nullable
+    public Recipe findMatchingRecipe(List<ItemStack> inputs, List<FluidStack> fluidInputs, RecipeMatchContext context) {
+        context.ensureLookupCapacity(nextOrdinal);
+        try {
+            for(int i = 0; i < inputs.size(); i++) {
+                ItemStack inputStack = inputs.get(i);
+                if(inputStack.isEmpty()) continue;
+                TIntObjectMap<RecipePostingList> metaPostings = itemPostings.get(inputStack.getItem());
+                if(metaPostings != null) {
+                    collectPostings(metaPostings.get(inputStack.getMetadata()), context);
+                    collectPostings(metaPostings.get(GTValues.W), context);
+                }
+                if(!orePostings.isEmpty()) {
+                    for(int oreId : context.getOreIds(inputStack)) {
+                        collectPostings(orePostings.get(oreId), context);
+                    }
+                }
+            }
+            for(int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                if(fluidStack == null) continue;
+                collectPostings(fluidPostings.get(fluidStack.getFluid()), context);
+            }
+
+            IndexedRecipe foundRecipe = null;
+            for(int i = 0; i < context.getPresentRecipesCount(); i++) {
+                IndexedRecipe indexedRecipe = context.getPresentRecipe(i);
+                long requiredMask = indexedRecipe.requiredMask;
+                if((foundRecipe == null || indexedRecipe.sequence < foundRecipe.sequence) &&
+                    (context.getPresentMask(indexedRecipe) & requiredMask) == requiredMask &&
+                    indexedRecipe.recipe.matches(false, false, inputs, fluidInputs, context)) {
+                    foundRecipe = indexedRecipe;
+                }
+            }
+            for(int i = 0; i < unkeyedRecipes.size(); i++) {
+                IndexedRecipe indexedRecipe = unkeyedRecipes.get(i);
+                if((foundRecipe == null || indexedRecipe.sequence < foundRecipe.sequence) &&
+                    indexedRecipe.recipe.matches(false, false, inputs, fluidInputs, context)) {
+                    foundRecipe = indexedRecipe;
+                }
+            }
+            return foundRecipe == null ? null : foundRecipe.recipe;
+        } finally {
+            context.resetLookupState();
+        }
+    }
+
+    private boolean addIngredientPostings(IndexedRecipe indexedRecipe, Ingredient ingredient, long ingredientBit) {
+        if(ingredient instanceof OreDictIngredient) {
+            int oreId = ((OreDictIngredient) ingredient).getOreId();
+            getOrCreatePostings(orePostings, oreId).add(indexedRecipe, ingredientBit);
+            return true;
+        } else if(ingredient instanceof OreIngredient) {
+            //matching stacks of ore ingredient change with ore dictionary, and we don't know it's name
+            return false;
+        }
+        boolean hasKeys = false;
+        for(ItemStack matchingStack : ingredient.getMatchingStacks()) {
+            if(matchingStack.isEmpty()) continue;
+            TIntObjectMap<RecipePostingList> metaPostings = itemPostings
+                .computeIfAbsent(matchingStack.getItem(), k -> new TIntObjectHashMap<>());
+            getOrCreatePostings(metaPostings, matchingStack.getMetadata()).add(indexedRecipe, ingredientBit);
+            hasKeys = true;
+        }
+        return hasKeys;
+    }
+
+    private static RecipePostingList getOrCreatePostings(TIntObjectMap<RecipePostingList> postings, int key) {
+        RecipePostingList postingList = postings.get(key);
+        if(postingList == null) {
+            postingList = new RecipePostingList();
+            postings.put(key, postingList);
+        }
+        return postingList;
+    }
+
+    private static void collectPostings(@Nullable RecipePostingList postingList, RecipeMatchContext context) {
+        if(postingList == null)
+            return;
+        for(int i = 0; i < postingList.size; i++) {
+            context.markPresent(postingList.recipes[i], postingList.ingredientMasks[i]);
+        }
+    }
+
+}
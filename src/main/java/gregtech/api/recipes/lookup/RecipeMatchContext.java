@@ -0,0 +1,147 @@
+package gregtech.api.recipes.lookup;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.unification.OreDictUnifier;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import net.minecraftforge.oredict.OreDictionary;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reusable scratch state for recipe matching and lookup, so searching for recipe performs no allocations.<p>
+ *
+ * Every thread has its own context, obtained with {@link #current()}. Amount arrays are only valid
+ * during single {@link gregtech.api.recipes.Recipe#matches} call. Input views are linked to handlers with
+ * {@link #linkInputs} and must be released with {@link #releaseInputs()} once caller is done with them.
+ */
+public final class RecipeMatchContext {
+
+    private static final ThreadLocal<RecipeMatchContext> THREAD_CONTEXT = ThreadLocal.withInitial(RecipeMatchContext::new);
+
+    private int[] itemAmountInSlot = new int[16];
+    private int[] fluidAmountInTank = new int[8];
+
+    private final ItemHandlerListView itemInputs = new ItemHandlerListView();
+    private final FluidHandlerListView fluidInputs = new FluidHandlerListView();
+    private boolean inputsLinked;
+
+    //lookup state of RecipeLookupIndex, indexed by IndexedRecipe ordinal
+    private long[] presentMasks = new long[0];
+    private IndexedRecipe[] presentRecipes = new IndexedRecipe[0];
+    private int presentRecipesCount;
+
+    private final Map<Item, TIntObjectMap<int[]>> oreIdsCache = new IdentityHashMap<>();
+    private int oreIdsCacheVersion = -1;
+
+    public static RecipeMatchContext current() {
+        return THREAD_CONTEXT.get();
+    }
+
+    public int[] getItemAmountInSlot(int slots) {
+        if(itemAmountInSlot.length < slots) {
+            this.itemAmountInSlot = new int[slots];
+        }
+        return itemAmountInSlot;
+    }
+
+    public int[] getFluidAmountInTank(int tanks) {
+        if(fluidAmountInTank.length < tanks) {
+            this.fluidAmountInTank = new int[tanks];
+        }
+        return fluidAmountInTank;
+    }
+
+    /**
+     * Links reusable input views of this context to given handlers
+     * @return true if views were linked, false if they are already in use higher up in the call stack
+     */
+    public boolean linkInputs(IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
+        if(inputsLinked)
+            return false;
+        this.inputsLinked = true;
+        this.itemInputs.setItemHandler(inputs);
+        this.fluidInputs.setFluidHandler(fluidInputs);
+        return true;
+    }
+
+    public void releaseInputs() {
+        this.inputsLinked = false;
+        this.itemInputs.setItemHandler(null);
+        this.fluidInputs.setFluidHandler(null);
+    }
+
+    public List<ItemStack> getItemInputs() {
+        return itemInputs;
+    }
+
+    public List<FluidStack> getFluidInputs() {
+        return fluidInputs;
+    }
+
+    void ensureLookupCapacity(int ordinalCapacity) {
+        if(presentMasks.length < ordinalCapacity) {
+            int newCapacity = Math.max(ordinalCapacity, presentMasks.length * 2);
+            this.presentMasks = Arrays.copyOf(presentMasks, newCapacity);
+            this.presentRecipes = Arrays.copyOf(presentRecipes, newCapacity);
+        }
+    }
+
+    void markPresent(IndexedRecipe indexedRecipe, long ingredientMask) {
+        long currentMask = presentMasks[indexedRecipe.ordinal];
+        if(currentMask == 0L) {
+            presentRecipes[presentRecipesCount++] = indexedRecipe;
+        }
+        presentMasks[indexedRecipe.ordinal] = currentMask | ingredientMask;
+    }
+
+    int getPresentRecipesCount() {
+        return presentRecipesCount;
+    }
+
+    IndexedRecipe getPresentRecipe(int index) {
+        return presentRecipes[index];
+    }
+
+    long getPresentMask(IndexedRecipe indexedRecipe) {
+        return presentMasks[indexedRecipe.ordinal];
+    }
+
+    void resetLookupState() {
+        for(int i = 0; i < presentRecipesCount; i++) {
+            presentMasks[presentRecipes[i].ordinal] = 0L;
+            presentRecipes[i] = null;
+        }
+        this.presentRecipesCount = 0;
+    }
+
+    /**
+     * @return ore dictionary ids of given stack, cached until ore dictionary changes
+     */
+    int[] getOreIds(ItemStack itemStack) {
+        int oreDictionaryVersion = OreDictUnifier.getOreDictionaryVersion();
+        if(oreIdsCacheVersion != oreDictionaryVersion) {
+            this.oreIdsCache.clear();
+            this.oreIdsCacheVersion = oreDictionaryVersion;
+        }
+        TIntObjectMap<int[]> metaOreIds = oreIdsCache.get(itemStack.getItem());
+        if(metaOreIds == null) {
+            metaOreIds = new TIntObjectHashMap<>();
+            oreIdsCache.put(itemStack.getItem(), metaOreIds);
+        }
+        int[] oreIds = metaOreIds.get(itemStack.getMetadata());
+        if(oreIds == null) {
+            oreIds = OreDictionary.getOreIDs(itemStack);
+            metaOreIds.put(itemStack.getMetadata(), oreIds);
+        }
+        return oreIds;
+    }
+
+}
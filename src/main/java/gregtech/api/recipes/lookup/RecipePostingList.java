@@ -0,0 +1,43 @@
+package gregtech.api.recipes.lookup;
+
+import java.util.Arrays;
+
+/**
+ * Postings of single {@link RecipeLookupIndex} key - recipes having ingredients with this key
+ * together with bit masks of these ingredients. Backed by plain arrays, so iterating it allocates nothing
+ */
+final class RecipePostingList {
+
+    IndexedRecipe[] recipes = new IndexedRecipe[4];
+    long[] ingredientMasks = new long[4];
+    int size;
+
+    void add(IndexedRecipe indexedRecipe, long ingredientBit) {
+        //postings of single recipe are always added one after another, so check only last one
+        if(size > 0 && recipes[size - 1] == indexedRecipe) {
+            ingredientMasks[size - 1] |= ingredientBit;
+            return;
+        }
+        if(size == recipes.length) {
+            this.recipes = Arrays.copyOf(recipes, size * 2);
+            this.ingredientMasks = Arrays.copyOf(ingredientMasks, size * 2);
+        }
+        recipes[size] = indexedRecipe;
+        ingredientMasks[size] = ingredientBit;
+        size++;
+        indexedRecipe.postings.add(this);
+    }
+
+    void remove(IndexedRecipe indexedRecipe) {
+        for(int i = 0; i < size; i++) {
+            if(recipes[i] == indexedRecipe) {
+                size--;
+                recipes[i] = recipes[size];
+                ingredientMasks[i] = ingredientMasks[size];
+                recipes[size] = null;
+                return;
+            }
+        }
+    }
+
+}
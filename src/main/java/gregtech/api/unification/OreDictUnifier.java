@@ -33,6 +33,7 @@ public class OreDictUnifier {
     private static final Map<SimpleItemStack, UnificationEntry> stackUnificationInfo = new WildcardAwareHashMap<>();
     private static final Map<UnificationEntry, ArrayList<SimpleItemStack>> stackUnificationItems = new HashMap<>();
     private static final Map<SimpleItemStack, Set<String>> stackOreDictName = new WildcardAwareHashMap<>();
+    private static int oreDictionaryVersion = 0;
 
     public static void registerMarkerMaterial(MarkerMaterial markerMaterial) {
         if(markerMaterialRegistry.containsKey(markerMaterial.toString())) {
@@ -70,6 +71,7 @@ public class OreDictUnifier {
     public static void onItemRegistration(OreRegisterEvent event) {
         SimpleItemStack simpleItemStack = new SimpleItemStack(event.getOre());
         String oreName = event.getName();
+        oreDictionaryVersion++;
         //cache this registration by name
         stackOreDictName.computeIfAbsent(simpleItemStack, k -> new HashSet<>()).add(oreName);
         //and try to transform registration name into OrePrefix + Material pair
@@ -124,6 +126,14 @@ public class OreDictUnifier {
         }
     }
 
+    /**
+     * @return counter incremented on every ore dictionary registration,
+     * used to invalidate caches derived from ore dictionary contents
+     */
+    public static int getOreDictionaryVersion() {
+        return oreDictionaryVersion;
+    }
+
     public static Set<String> getOreDictionaryNames(ItemStack itemStack) {
         if(itemStack.isEmpty()) return Collections.emptySet();
         SimpleItemStack simpleItemStack = new SimpleItemStack(itemStack);
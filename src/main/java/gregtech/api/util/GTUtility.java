@@ -30,6 +30,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.NonNullList;
@@ -366,6 +367,18 @@ public class GTUtility {
         }
     }
 
+    /**
+     * Writes signed int as zig-zag encoded varint, so small negative values take as little space as positive ones
+     */
+    public static void writeSignedVarInt(PacketBuffer buffer, int value) {
+        buffer.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public static int readSignedVarInt(PacketBuffer buffer) {
+        int encodedValue = buffer.readVarInt();
+        return (encodedValue >>> 1) ^ -(encodedValue & 1);
+    }
+
     public static boolean isStringValid(String aString) {
         return aString != null && !aString.isEmpty();
     }
@@ -559,15 +572,17 @@ public class GTUtility {
 
     public static int amountOfNonNullElements(List<?> collection) {
         int amount = 0;
-        for(Object object : collection) {
-            if(object != null) amount++;
+        //indexed loop, so no iterator is allocated during recipe search
+        for(int i = 0; i < collection.size(); i++) {
+            if(collection.get(i) != null) amount++;
         }
         return amount;
     }
 
     public static int amountOfNonEmptyStacks(List<ItemStack> collection) {
         int amount = 0;
-        for(ItemStack object : collection) {
+        for(int i = 0; i < collection.size(); i++) {
+            ItemStack object = collection.get(i);
             if(object != null && !object.isEmpty()) amount++;
         }
         return amount;
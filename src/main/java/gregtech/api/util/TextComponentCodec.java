@@ -0,0 +1,158 @@
+package gregtech.api.util;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.text.*;
+
+import java.util.List;
+
+/**
+ * Writes text components to packet buffers as raw translation keys and arguments,
+ * so server doesn't need to build JSON for them and client formats them itself
+ * Components which can't be represented this way (siblings, click or hover events) are written as JSON
+ */
+public class TextComponentCodec {
+
+    private static final int TYPE_JSON = 0;
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_TRANSLATION = 2;
+
+    private static final int ARG_INT = 0;
+    private static final int ARG_LONG = 1;
+    private static final int ARG_DOUBLE = 2;
+    private static final int ARG_STRING = 3;
+    private static final int ARG_COMPONENT = 4;
+
+    private static final int STYLE_BOLD = 1;
+    private static final int STYLE_ITALIC = 2;
+    private static final int STYLE_UNDERLINED = 4;
+    private static final int STYLE_STRIKETHROUGH = 8;
+    private static final int STYLE_OBFUSCATED = 16;
+
+    public static void writeComponents(PacketBuffer buffer, List<ITextComponent> components) {
+        buffer.writeVarInt(components.size());
+        for(ITextComponent component : components) {
+            writeComponent(buffer, component);
+        }
+    }
+
+    public static void readComponents(PacketBuffer buffer, List<ITextComponent> components) {
+        int count = buffer.readVarInt();
+        for(int i = 0; i < count; i++) {
+            components.add(readComponent(buffer));
+        }
+    }
+
+    public static void writeComponent(PacketBuffer buffer, ITextComponent component) {
+        if(!isCompactComponent(component)) {
+            buffer.writeByte(TYPE_JSON);
+            buffer.writeString(ITextComponent.Serializer.componentToJson(component));
+        } else if(component instanceof TextComponentString) {
+            buffer.writeByte(TYPE_STRING);
+            buffer.writeString(((TextComponentString) component).getText());
+            writeStyle(buffer, component.getStyle());
+        } else {
+            TextComponentTranslation translation = (TextComponentTranslation) component;
+            buffer.writeByte(TYPE_TRANSLATION);
+            buffer.writeString(translation.getKey());
+            writeStyle(buffer, component.getStyle());
+            Object[] formatArgs = translation.getFormatArgs();
+            buffer.writeVarInt(formatArgs.length);
+            for(Object formatArg : formatArgs) {
+                writeFormatArg(buffer, formatArg);
+            }
+        }
+    }
+
+    public static ITextComponent readComponent(PacketBuffer buffer) {
+        int type = buffer.readByte();
+        if(type == TYPE_JSON) {
+            return ITextComponent.Serializer.jsonToComponent(buffer.readString(Short.MAX_VALUE));
+        } else if(type == TYPE_STRING) {
+            ITextComponent component = new TextComponentString(buffer.readString(Short.MAX_VALUE));
+            return component.setStyle(readStyle(buffer));
+        }
+        String key = buffer.readString(Short.MAX_VALUE);
+        Style style = readStyle(buffer);
+        Object[] formatArgs = new Object[buffer.readVarInt()];
+        for(int i = 0; i < formatArgs.length; i++) {
+            formatArgs[i] = readFormatArg(buffer);
+        }
+        return new TextComponentTranslation(key, formatArgs).setStyle(style);
+    }
+
+    private static boolean isCompactComponent(ITextComponent component) {
+        if(!(component instanceof TextComponentString || component instanceof TextComponentTranslation))
+            return false;
+        Style style = component.getStyle();
+        //siblings are not supported, format arguments are siblings of translation though, so check them separately
+        if(style.getClickEvent() != null || style.getHoverEvent() != null || style.getInsertion() != null)
+            return false;
+        if(component instanceof TextComponentString)
+            return component.getSiblings().isEmpty();
+        if(!component.getSiblings().isEmpty())
+            return false;
+        for(Object formatArg : ((TextComponentTranslation) component).getFormatArgs()) {
+            if(formatArg instanceof ITextComponent && !isCompactComponent((ITextComponent) formatArg))
+                return false;
+        }
+        return true;
+    }
+
+    private static void writeFormatArg(PacketBuffer buffer, Object formatArg) {
+        if(formatArg instanceof Integer || formatArg instanceof Short || formatArg instanceof Byte) {
+            buffer.writeByte(ARG_INT);
+            GTUtility.writeSignedVarInt(buffer, ((Number) formatArg).intValue());
+        } else if(formatArg instanceof Long) {
+            buffer.writeByte(ARG_LONG);
+            buffer.writeLong((Long) formatArg);
+        } else if(formatArg instanceof Double || formatArg instanceof Float) {
+            buffer.writeByte(ARG_DOUBLE);
+            buffer.writeDouble(((Number) formatArg).doubleValue());
+        } else if(formatArg instanceof ITextComponent) {
+            buffer.writeByte(ARG_COMPONENT);
+            writeComponent(buffer, (ITextComponent) formatArg);
+        } else {
+            buffer.writeByte(ARG_STRING);
+            buffer.writeString(String.valueOf(formatArg));
+        }
+    }
+
+    private static Object readFormatArg(PacketBuffer buffer) {
+        int argType = buffer.readByte();
+        switch (argType) {
+            case ARG_INT: return GTUtility.readSignedVarInt(buffer);
+            case ARG_LONG: return buffer.readLong();
+            case ARG_DOUBLE: return buffer.readDouble();
+            case ARG_COMPONENT: return readComponent(buffer);
+            default: return buffer.readString(Short.MAX_VALUE);
+        }
+    }
+
+    private static void writeStyle(PacketBuffer buffer, Style style) {
+        TextFormatting color = style.getColor();
+        buffer.writeByte(color == null ? -1 : color.ordinal());
+        int flags = 0;
+        if(style.getBold()) flags |= STYLE_BOLD;
+        if(style.getItalic()) flags |= STYLE_ITALIC;
+        if(style.getUnderlined()) flags |= STYLE_UNDERLINED;
+        if(style.getStrikethrough()) flags |= STYLE_STRIKETHROUGH;
+        if(style.getObfuscated()) flags |= STYLE_OBFUSCATED;
+        buffer.writeByte(flags);
+    }
+
+    private static Style readStyle(PacketBuffer buffer) {
+        Style style = new Style();
+        int colorIndex = buffer.readByte();
+        if(colorIndex >= 0) {
+            style.setColor(TextFormatting.values()[colorIndex]);
+        }
+        int flags = buffer.readByte();
+        if((flags & STYLE_BOLD) != 0) style.setBold(true);
+        if((flags & STYLE_ITALIC) != 0) style.setItalic(true);
+        if((flags & STYLE_UNDERLINED) != 0) style.setUnderlined(true);
+        if((flags & STYLE_STRIKETHROUGH) != 0) style.setStrikethrough(true);
+        if((flags & STYLE_OBFUSCATED) != 0) style.setObfuscated(true);
+        return style;
+    }
+
+}
@@ -0,0 +1,86 @@
+package gregtech.api.worldgen.config;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Function of block state backed by array indexed by {@link Block#getStateId(IBlockState)}
+ * Array is filled by evaluating function for every registered block state on first use,
+ * and rebuilt when block ids are remapped. Some states share id with other states, and if
+ * function results differ for them, result for that id is computed by backing function directly
+ * Function should be deterministic and only depend on block state
+ */
+public class CompiledBlockStateFunction<T> implements Function<IBlockState, T> {
+
+    private static int blockIdsVersion = 0;
+
+    private final Function<IBlockState, T> function;
+    private int compiledVersion = -1;
+    private Object[] values;
+    private BitSet ambiguousIds;
+
+    public CompiledBlockStateFunction(Function<IBlockState, T> function) {
+        this.function = function;
+    }
+
+    /**
+     * Should be called when block ids are changed, so all compiled functions and predicates are rebuilt
+     */
+    public static void onBlockIdsChanged() {
+        blockIdsVersion++;
+    }
+
+    static int getBlockIdsVersion() {
+        return blockIdsVersion;
+    }
+
+    @SuppressWarnings("deprecation")
+    static void forEachBlockState(ObjIntConsumer<IBlockState> consumer) {
+        for(Block block : Block.REGISTRY) {
+            for(IBlockState blockState : block.getBlockState().getValidStates()) {
+                consumer.accept(blockState, Block.getStateId(blockState));
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T apply(IBlockState blockState) {
+        if(compiledVersion != blockIdsVersion) {
+            compile();
+        }
+        int stateId = Block.getStateId(blockState);
+        if(stateId < 0 || stateId >= values.length || ambiguousIds.get(stateId))
+            return function.apply(blockState);
+        return (T) values[stateId];
+    }
+
+    private void compile() {
+        int[] maxStateId = new int[1];
+        forEachBlockState((blockState, stateId) -> maxStateId[0] = Math.max(maxStateId[0], stateId));
+        Object[] values = new Object[maxStateId[0] + 1];
+        BitSet knownIds = new BitSet(values.length);
+        BitSet ambiguousIds = new BitSet(values.length);
+        forEachBlockState((blockState, stateId) -> {
+            if(stateId < 0) return;
+            T value = function.apply(blockState);
+            if(!knownIds.get(stateId)) {
+                knownIds.set(stateId);
+                values[stateId] = value;
+            } else if(values[stateId] != value) {
+                ambiguousIds.set(stateId);
+            }
+        });
+        //ids without registered states can't be trusted too
+        knownIds.flip(0, values.length);
+        ambiguousIds.or(knownIds);
+        this.values = values;
+        this.ambiguousIds = ambiguousIds;
+        this.compiledVersion = blockIdsVersion;
+    }
+
+}
@@ -0,0 +1,59 @@
+package gregtech.api.worldgen.config;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Block state predicate backed by bit set indexed by {@link Block#getStateId(IBlockState)}
+ * Works the same way as {@link CompiledBlockStateFunction}, but only takes a bit per state id
+ */
+public class CompiledBlockStatePredicate implements Predicate<IBlockState> {
+
+    private final Predicate<IBlockState> predicate;
+    private int compiledVersion = -1;
+    private int stateIdsCount;
+    private BitSet matchingIds;
+    private BitSet ambiguousIds;
+
+    public CompiledBlockStatePredicate(Predicate<IBlockState> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(IBlockState blockState) {
+        if(compiledVersion != CompiledBlockStateFunction.getBlockIdsVersion()) {
+            compile();
+        }
+        int stateId = Block.getStateId(blockState);
+        if(stateId < 0 || stateId >= stateIdsCount || ambiguousIds.get(stateId))
+            return predicate.test(blockState);
+        return matchingIds.get(stateId);
+    }
+
+    private void compile() {
+        BitSet knownIds = new BitSet();
+        BitSet matchingIds = new BitSet();
+        BitSet ambiguousIds = new BitSet();
+        CompiledBlockStateFunction.forEachBlockState((blockState, stateId) -> {
+            if(stateId < 0) return;
+            boolean matches = predicate.test(blockState);
+            if(!knownIds.get(stateId)) {
+                knownIds.set(stateId);
+                matchingIds.set(stateId, matches);
+            } else if(matchingIds.get(stateId) != matches) {
+                ambiguousIds.set(stateId);
+            }
+        });
+        this.stateIdsCount = knownIds.length();
+        //ids without registered states can't be trusted too
+        knownIds.flip(0, stateIdsCount);
+        ambiguousIds.or(knownIds);
+        this.matchingIds = matchingIds;
+        this.ambiguousIds = ambiguousIds;
+        this.compiledVersion = CompiledBlockStateFunction.getBlockIdsVersion();
+    }
+
+}
@@ -38,6 +38,9 @@ import java.util.stream.Collectors;
 
 public class OreConfigUtils {
 
+    //shared by all fillers depending on stone type, so lookup table is built only once
+    private static final Function<IBlockState, StoneType> stoneTypeLookup = new CompiledBlockStateFunction<>(StoneType::computeStoneType);
+
     public static Predicate<WorldProvider> createWorldPredicate(JsonElement element) {
         if(!element.isJsonArray())
             throw new IllegalArgumentException("World filter should be array!");
@@ -62,14 +65,20 @@ public class OreConfigUtils {
             } else throw new IllegalArgumentException("Unknown world predicate: " + stringValue);
             if(stringValue.startsWith("*")) {
                 Pattern pattern = Pattern.compile(stringValue.substring(1));
-                return provider -> pattern.matcher(stringSupplier.apply(provider)).matches();
+                allPredicates.add(provider -> pattern.matcher(stringSupplier.apply(provider)).matches());
             } else {
                 String finalStringValue = stringValue;
-                return provider -> finalStringValue.equalsIgnoreCase(stringSupplier.apply(provider));
+                allPredicates.add(provider -> finalStringValue.equalsIgnoreCase(stringSupplier.apply(provider)));
             }
         }
 
-        return provider -> allPredicates.stream().anyMatch(p -> p.test(provider));
+        return provider -> {
+            for(Predicate<WorldProvider> predicate : allPredicates) {
+                if(predicate.test(provider))
+                    return true;
+            }
+            return false;
+        };
     }
 
     public static Function<Biome, Integer> createBiomeWeightModifier(JsonElement element) {
@@ -157,16 +166,21 @@ public class OreConfigUtils {
             return state -> fluidBlock.getDefaultState();
         } else if(stringDeclaration.startsWith("ore:")) {
             Map<StoneType, IBlockState> blockStateMap = getOreStateMap(stringDeclaration);
-            return stoneState -> {
-                StoneType stoneType = StoneType.computeStoneType(stoneState);
+            //resolve fallbacks for all stone types once, so filler only does lookups
+            Map<StoneType, IBlockState> resolvedStateMap = new HashMap<>();
+            List<StoneType> allStoneTypes = new ArrayList<>();
+            StoneType.STONE_TYPE_REGISTRY.forEach(allStoneTypes::add);
+            allStoneTypes.add(StoneTypes._NULL);
+            for(StoneType stoneType : allStoneTypes) {
                 //use stone as fallback stone type for ore type defining
-                if(stoneType == StoneTypes._NULL)
-                    stoneType = StoneTypes.STONE;
+                StoneType actualStoneType = stoneType == StoneTypes._NULL ? StoneTypes.STONE : stoneType;
                 //if given stone type block doesn't exist, fallback to first existing
-                if(!blockStateMap.containsKey(stoneType))
-                    stoneType = blockStateMap.keySet().iterator().next();
-                return blockStateMap.get(stoneType);
-            };
+                if(!blockStateMap.containsKey(actualStoneType))
+                    actualStoneType = blockStateMap.keySet().iterator().next();
+                resolvedStateMap.put(stoneType, blockStateMap.get(actualStoneType));
+            }
+            IBlockState defaultState = resolvedStateMap.get(StoneTypes._NULL);
+            return stoneState -> resolvedStateMap.getOrDefault(stoneTypeLookup.apply(stoneState), defaultState);
         } else if(stringDeclaration.startsWith("ore_dict:")) {
             String oreDictName = stringDeclaration.substring(9);
             IBlockState firstBlock = getOreDictBlocks(oreDictName).get(0);
@@ -195,16 +209,18 @@ public class OreConfigUtils {
             //add default element if it isn't defined, to avoid issues
             matchers.add(new SimpleEntry<>(state -> true, state -> Blocks.AIR.getDefaultState()));
         }
-        return state -> {
+        //fillers themselves can be random, so only matching filler for state is compiled
+        Function<IBlockState, Function<IBlockState, IBlockState>> matchingFiller = new CompiledBlockStateFunction<>(state -> {
             for(Entry<Predicate<IBlockState>, Function<IBlockState, IBlockState>> matchEntry : matchers) {
                 Predicate<IBlockState> predicate = matchEntry.getKey();
                 Function<IBlockState, IBlockState> filler = matchEntry.getValue();
                 if(predicate.test(state))
-                    return filler.apply(state);
+                    return filler;
             }
             //if this will happen somehow (even if it's impossible, call latest filler)
-            return matchers.get(matchers.size() - 1).getValue().apply(state);
-        };
+            return matchers.get(matchers.size() - 1).getValue();
+        });
+        return state -> matchingFiller.apply(state).apply(state);
     }
 
     private static Function<IBlockState, IBlockState> createStoneTypeMatchFiller(JsonObject object) {
@@ -222,12 +238,8 @@ public class OreConfigUtils {
             //if no default element is defined, define it as air to avoid issues
             stateByStoneType.put(StoneTypes._NULL, state -> Blocks.AIR.getDefaultState());
         }
-        return state -> {
-            StoneType stoneType = StoneType.computeStoneType(state);
-            if(!stateByStoneType.containsKey(stoneType))
-                stoneType = StoneTypes._NULL;
-            return stateByStoneType.get(stoneType).apply(state);
-        };
+        Function<IBlockState, IBlockState> defaultFiller = stateByStoneType.get(StoneTypes._NULL);
+        return state -> stateByStoneType.getOrDefault(stoneTypeLookup.apply(state), defaultFiller).apply(state);
     }
 
     private static final Random blockStateRandom = new XSTR();
@@ -315,7 +327,13 @@ public class OreConfigUtils {
             for(JsonElement arrayElement : array) {
                 allPredicates.add(createBlockStatePredicate(arrayElement));
             }
-            return state -> allPredicates.stream().anyMatch(p -> p.test(state));
+            return state -> {
+                for(Predicate<IBlockState> predicate : allPredicates) {
+                    if(predicate.test(state))
+                        return true;
+                }
+                return false;
+            };
         } else {
             throw new IllegalArgumentException("Unsupported block state variant predicate type: " + element);
         }
@@ -18,7 +18,7 @@ public class OreDepositDefinition {
 
     public static final Function<Biome, Integer> NO_BIOME_INFLUENCE = biome -> 0;
     public static final Predicate<WorldProvider> PREDICATE_SURFACE_WORLD = WorldProvider::isSurfaceWorld;
-    public static final Predicate<IBlockState> PREDICATE_STONE_TYPE = state -> StoneType.computeStoneType(state) != StoneTypes._NULL;
+    public static final Predicate<IBlockState> PREDICATE_STONE_TYPE = new CompiledBlockStatePredicate(state -> StoneType.computeStoneType(state) != StoneTypes._NULL);
 
     private final String depositName;
 
@@ -58,7 +58,8 @@ public class OreDepositDefinition {
             this.dimensionFilter = OreConfigUtils.createWorldPredicate(configRoot.get("dimension_filter"));
         }
         if(configRoot.has("generation_predicate")) {
-            this.generationPredicate = OreConfigUtils.createBlockStatePredicate(configRoot.get("generation_predicate"));
+            //generation predicate is checked for every generated block, so compile it into lookup table
+            this.generationPredicate = new CompiledBlockStatePredicate(OreConfigUtils.createBlockStatePredicate(configRoot.get("generation_predicate")));
         }
         if(configRoot.has("surface_stone_material")) {
             this.surfaceStoneMaterial = (IngotMaterial) OreConfigUtils.getMaterialByName(configRoot.get("surface_stone_material").getAsString());
@@ -6,6 +6,9 @@ import gregtech.api.GTValues;
 import gregtech.api.util.GTLog;
 import gregtech.api.worldgen.filler.IBlockFiller;
 import gregtech.api.worldgen.filler.SimpleBlockFiller;
+import gregtech.api.worldgen.generator.CachedGridEntry;
+import gregtech.api.worldgen.generator.GridEntryPlanner;
+import gregtech.api.worldgen.generator.GridEntryStorage;
 import gregtech.api.worldgen.generator.WorldGeneratorImpl;
 import gregtech.api.worldgen.shape.*;
 import net.minecraft.world.WorldProvider;
@@ -38,6 +41,7 @@ public class WorldGenRegistry {
 
     private final List<OreDepositDefinition> registeredDefinitions = new ArrayList<>();
     private final Map<WorldProvider, WorldOreVeinCache> oreVeinCache = new WeakHashMap<>();
+    private int definitionsHash;
 
     private class WorldOreVeinCache {
         private final List<OreDepositDefinition> worldVeins;
@@ -70,6 +74,22 @@ public class WorldGenRegistry {
         return worldOreVeinCache.getBiomeEntry(biome);
     }
 
+    public OreDepositDefinition getDefinition(String depositName) {
+        for(OreDepositDefinition definition : registeredDefinitions) {
+            if(definition.getDepositName().equals(depositName))
+                return definition;
+        }
+        return null;
+    }
+
+    /**
+     * @return hash of names and configs of all registered vein definitions,
+     * changes when definitions are changed and reloaded
+     */
+    public int getDefinitionsHash() {
+        return definitionsHash;
+    }
+
     public void initializeRegistry() {
         GTLog.logger.info("Initializing ore generation registry...");
         registerShapeGenerator("ellipsoid", EllipsoidGenerator::new);
@@ -80,6 +100,8 @@ public class WorldGenRegistry {
         WorldGeneratorImpl worldGenerator = new WorldGeneratorImpl();
         GameRegistry.registerWorldGenerator(worldGenerator, 1);
         MinecraftForge.ORE_GEN_BUS.register(worldGenerator);
+        GridEntryStorage.init();
+        GridEntryPlanner.init();
         try {
             reinitializeRegisteredVeins();
         } catch (IOException | RuntimeException exception) {
@@ -91,6 +113,9 @@ public class WorldGenRegistry {
         GTLog.logger.info("Reloading ore generation files from config...");
         registeredDefinitions.clear();
         oreVeinCache.clear();
+        this.definitionsHash = 0;
+        //previously generated and stored grid entries refer to old definitions
+        CachedGridEntry.clearCaches();
         Path configPath = Loader.instance().getConfigDir().toPath().resolve(GTValues.MODID);
         Path worldgenRootPath = configPath.resolve("worldgen");
         Path jarFileExtractLock = configPath.resolve(".worldgen_extracted");
@@ -116,9 +141,7 @@ public class WorldGenRegistry {
                 try(InputStream fileStream = Files.newInputStream(worldgenDefinition)) {
                     InputStreamReader streamReader = new InputStreamReader(fileStream);
                     JsonObject element = jsonParser.parse(streamReader).getAsJsonObject();
-                    OreDepositDefinition deposit = new OreDepositDefinition(depositName);
-                    deposit.initializeFromConfig(element);
-                    registeredDefinitions.add(deposit);
+                    addVeinDefinition(depositName, element);
                 }
             } catch (IOException exception) {
                 GTLog.logger.error("Failed to load worldgen definition file on path {}", worldgenDefinition, exception);
@@ -129,6 +152,15 @@ public class WorldGenRegistry {
         GTLog.logger.info("Loaded {} worldgen definitions", registeredDefinitions.size());
     }
 
+    //package-private, so benchmarks can register veins without config folder, but other mods can't bypass it
+    void addVeinDefinition(String depositName, JsonObject element) {
+        OreDepositDefinition deposit = new OreDepositDefinition(depositName);
+        deposit.initializeFromConfig(element);
+        registeredDefinitions.add(deposit);
+        //order of files isn't defined, so hashes are combined by sum
+        this.definitionsHash += 31 * depositName.hashCode() + element.toString().hashCode();
+    }
+
     private static void extractJarVeinDefinitions(Path worldgenRootPath) throws IOException {
         FileSystem zipFileSystem = null;
         try {
@@ -13,11 +13,17 @@ import gregtech.api.worldgen.config.OreDepositDefinition;
 import gregtech.api.worldgen.config.WorldGenRegistry;
 import gregtech.common.ConfigHolder;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
@@ -32,8 +38,48 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
             currentValue = createGridCache(world);
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
-        return currentValue.getUnchecked(gridEntryKey);
+        return currentValue.getUnchecked(getGridKey(gridX, gridZ));
+    }
+
+    static boolean isEntryCached(World world, long gridKey) {
+        LoadingCache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
+        return currentValue != null && currentValue.getIfPresent(gridKey) != null;
+    }
+
+    static void putEntry(World world, long gridKey, CachedGridEntry gridEntry) {
+        LoadingCache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
+        if(currentValue == null) {
+            currentValue = createGridCache(world);
+            gridEntryCache.put(world, currentValue);
+        }
+        currentValue.put(gridKey, gridEntry);
+        GridEntryStorage.saveEntry(world, gridEntry);
+    }
+
+    /**
+     * Drops all cached and planned grid entries, so they are recomputed with current vein definitions
+     */
+    public static void clearCaches() {
+        gridEntryCache.clear();
+        GridEntryPlanner.clearPlannedEntries();
+        GridEntryStorage.closeAll();
+    }
+
+    static long getGridKey(int gridX, int gridZ) {
+        return (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Resolves vein definitions for grid entry with given coordinates
+     * Biome lookup isn't thread safe, so it should be always called from thread owning world
+     * @return mutable copy of weighted vein definitions list, which can be passed to grid entry constructor
+     */
+    static List<Entry<Integer, OreDepositDefinition>> getGridDepositMap(World world, int gridX, int gridZ) {
+        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
+        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
+        BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
+        Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
+        return new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
     }
 
     private static LoadingCache<Long, CachedGridEntry> createGridCache(World world) {
@@ -44,9 +90,21 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
                 @Override
                 public CachedGridEntry load(Long key) {
                     long actualKey = key;
+                    //entry could be already planned in background, wait for it instead of computing it again
+                    CachedGridEntry plannedEntry = GridEntryPlanner.takePlannedEntry(world, actualKey);
+                    if(plannedEntry != null) {
+                        GridEntryStorage.saveEntry(world, plannedEntry);
+                        return plannedEntry;
+                    }
                     int gridX = (int) (actualKey >> 32);
                     int gridZ = (int) actualKey;
-                    return new CachedGridEntry(world, gridX, gridZ);
+                    CachedGridEntry storedEntry = GridEntryStorage.loadEntry(world, gridX, gridZ);
+                    if(storedEntry != null) {
+                        return storedEntry;
+                    }
+                    CachedGridEntry gridEntry = new CachedGridEntry(world, gridX, gridZ);
+                    GridEntryStorage.saveEntry(world, gridEntry);
+                    return gridEntry;
                 }
             });
     }
@@ -64,24 +122,92 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
     private OreDepositDefinition currentOreVein;
 
     public CachedGridEntry(World world, int gridX, int gridZ) {
+        this(world.getSeed(), gridX, gridZ, world.getActualHeight(), getGridDepositMap(world, gridX, gridZ));
+    }
+
+    /**
+     * Creates grid entry without accessing world, so it can be computed on any thread
+     * @param depositMap weighted vein definitions for this grid, list is modified during generation
+     */
+    public CachedGridEntry(long worldSeed, int gridX, int gridZ, int maxHeight, List<Entry<Integer, OreDepositDefinition>> depositMap) {
         this.gridX = gridX;
         this.gridZ = gridZ;
-        long gridRandomSeed = Objects.hash(gridX, gridZ) ^ world.getSeed();
+        long gridRandomSeed = Objects.hash(gridX, gridZ) ^ worldSeed;
         this.gridRandom = new XSTR(gridRandomSeed);
-
-        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
-        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
-        BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
-        Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
-        this.cachedDepositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
-        this.maxHeight = world.getActualHeight();
+        this.cachedDepositMap = depositMap;
+        this.maxHeight = maxHeight;
         this.generatedVeins = triggerVeinsGeneration();
+        //sort blocks once while planning, so they're placed section by section later
+        this.dataByChunkPos.forEachValue(chunkDataEntry -> {
+            chunkDataEntry.sortBlocks();
+            return true;
+        });
+    }
+
+    private CachedGridEntry(int gridX, int gridZ, List<OreDepositDefinition> generatedVeins) {
+        this.gridX = gridX;
+        this.gridZ = gridZ;
+        this.gridRandom = null;
+        this.cachedDepositMap = Collections.emptyList();
+        this.generatedVeins = generatedVeins;
+    }
+
+    /**
+     * Reads grid entry written by {@link #writeEntry(DataOutput)}
+     * Vein definitions are referenced by name, so they should be the same as ones entry was generated with
+     */
+    public static CachedGridEntry readEntry(int gridX, int gridZ, DataInput input) throws IOException {
+        int veinsCount = input.readInt();
+        List<OreDepositDefinition> generatedVeins = new ArrayList<>(veinsCount);
+        for(int i = 0; i < veinsCount; i++) {
+            generatedVeins.add(readDefinition(input));
+        }
+        CachedGridEntry gridEntry = new CachedGridEntry(gridX, gridZ, generatedVeins);
+        int chunksCount = input.readInt();
+        for(int i = 0; i < chunksCount; i++) {
+            ChunkDataEntry chunkDataEntry = ChunkDataEntry.readEntry(input);
+            long chunkKey = (long) chunkDataEntry.chunkX << 32 | chunkDataEntry.chunkZ & 0xFFFFFFFFL;
+            gridEntry.dataByChunkPos.put(chunkKey, chunkDataEntry);
+        }
+        return gridEntry;
+    }
+
+    private static OreDepositDefinition readDefinition(DataInput input) throws IOException {
+        String depositName = input.readUTF();
+        OreDepositDefinition definition = WorldGenRegistry.INSTANCE.getDefinition(depositName);
+        if(definition == null) {
+            throw new IOException("Unknown ore deposit definition " + depositName);
+        }
+        return definition;
+    }
+
+    public void writeEntry(DataOutput output) throws IOException {
+        output.writeInt(generatedVeins.size());
+        for(OreDepositDefinition definition : generatedVeins) {
+            output.writeUTF(definition.getDepositName());
+        }
+        output.writeInt(dataByChunkPos.size());
+        for(ChunkDataEntry chunkDataEntry : dataByChunkPos.valueCollection()) {
+            chunkDataEntry.writeEntry(output);
+        }
+    }
+
+    public int getGridX() {
+        return gridX;
+    }
+
+    public int getGridZ() {
+        return gridZ;
     }
 
     public List<OreDepositDefinition> getGeneratedVeins() {
         return Collections.unmodifiableList(generatedVeins);
     }
 
+    public Collection<ChunkDataEntry> getChunkDataEntries() {
+        return Collections.unmodifiableCollection(dataByChunkPos.valueCollection());
+    }
+
     public void populateChunk(World world, int chunkX, int chunkZ) {
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
@@ -173,8 +299,8 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
         }
 
         public void setBlock(int x, int y, int z, OreDepositDefinition definition) {
-            int xzValue = ((x & 0xFF) << 8) | (z & 0xFF);
-            long blockIndex = (long) xzValue << 32 | y & 0xFFFFFFFFL;
+            //blocks are packed with Y in upper bits, so sorted lists are grouped by chunk section
+            long blockIndex = (long) y << 8 | (x & 0xF) << 4 | z & 0xF;
             TLongList longList = oreBlocks.get(definition);
             if(longList == null) {
                 longList = new TLongArrayList();
@@ -183,24 +309,121 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
             longList.add(blockIndex);
         }
 
+        public Set<OreDepositDefinition> getOreDefinitions() {
+            return Collections.unmodifiableSet(oreBlocks.keySet());
+        }
+
+        /**
+         * @return amount of blocks planned for given definition, including ones which won't pass generation predicate
+         */
+        public int getOreBlocksCount(OreDepositDefinition definition) {
+            TLongList blockIndexList = oreBlocks.get(definition);
+            return blockIndexList == null ? 0 : blockIndexList.size();
+        }
+
+        /**
+         * Writes blocks inside world height range as 2 bytes each, blocks outside of it are never placed anyway
+         */
+        public void writeEntry(DataOutput output) throws IOException {
+            output.writeInt(chunkX);
+            output.writeInt(chunkZ);
+            output.writeInt(oreBlocks.size());
+            for(OreDepositDefinition definition : oreBlocks.keySet()) {
+                TLongList blockIndexList = oreBlocks.get(definition);
+                int blocksCount = 0;
+                for(int i = 0; i < blockIndexList.size(); i++) {
+                    long blockY = blockIndexList.get(i) >> 8;
+                    if(blockY >= 0 && blockY < 256) blocksCount++;
+                }
+                output.writeUTF(definition.getDepositName());
+                output.writeInt(blocksCount);
+                for(int i = 0; i < blockIndexList.size(); i++) {
+                    long blockIndex = blockIndexList.get(i);
+                    long blockY = blockIndex >> 8;
+                    if(blockY >= 0 && blockY < 256) {
+                        output.writeShort((int) blockIndex);
+                    }
+                }
+            }
+        }
+
+        public static ChunkDataEntry readEntry(DataInput input) throws IOException {
+            ChunkDataEntry chunkDataEntry = new ChunkDataEntry(input.readInt(), input.readInt());
+            int definitionsCount = input.readInt();
+            for(int i = 0; i < definitionsCount; i++) {
+                OreDepositDefinition definition = readDefinition(input);
+                int blocksCount = input.readInt();
+                TLongList blockIndexList = new TLongArrayList(blocksCount);
+                for(int j = 0; j < blocksCount; j++) {
+                    blockIndexList.add(input.readUnsignedShort());
+                }
+                chunkDataEntry.oreBlocks.put(definition, blockIndexList);
+            }
+            return chunkDataEntry;
+        }
+
+        public void sortBlocks() {
+            for(TLongList longList : oreBlocks.values()) {
+                longList.sort();
+            }
+        }
+
+        /**
+         * Places ore blocks directly into chunk sections when replaced block has the same
+         * light properties and no tile entity, so lighting and height map stay valid
+         * Like chunk primer during terrain generation, this doesn't call onBlockAdded or breakBlock
+         * Other blocks go through {@link World#setBlockState(BlockPos, IBlockState, int)}
+         */
         public void populateChunk(World world) {
             MutableBlockPos blockPos = new MutableBlockPos();
+            Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+            ExtendedBlockStorage[] blockStorageArray = chunk.getBlockStorageArray();
+            boolean chunkModified = false;
             for(OreDepositDefinition definition : oreBlocks.keySet()) {
-                long[] blockIndexArray = oreBlocks.get(definition).toArray();
-                for(long blockIndex : blockIndexArray) {
-                    int xzValue = (int) (blockIndex >> 32);
-                    int blockY = (int) blockIndex;
-                    int blockX = (byte) (xzValue >> 8);
-                    int blockZ = (byte) xzValue;
+                TLongList blockIndexList = oreBlocks.get(definition);
+                int currentSectionIndex = -1;
+                ExtendedBlockStorage blockStorage = null;
+                for(int i = 0; i < blockIndexList.size(); i++) {
+                    long blockIndex = blockIndexList.get(i);
+                    int blockY = (int) (blockIndex >> 8);
+                    int blockX = (int) (blockIndex >> 4) & 0xF;
+                    int blockZ = (int) blockIndex & 0xF;
+                    if(blockY < 0 || blockY >= blockStorageArray.length * 16)
+                        continue; //veins near world bounds can go outside of it
+                    int sectionIndex = blockY >> 4;
+                    if(sectionIndex != currentSectionIndex) {
+                        currentSectionIndex = sectionIndex;
+                        blockStorage = blockStorageArray[sectionIndex];
+                    }
                     blockPos.setPos(chunkX * 16 + blockX, blockY, chunkZ * 16 + blockZ);
-                    IBlockState currentState = world.getBlockState(blockPos);
+                    IBlockState currentState = blockStorage == Chunk.NULL_BLOCK_STORAGE ? Blocks.AIR.getDefaultState() :
+                        blockStorage.get(blockX, blockY & 0xF, blockZ);
                     if(!definition.getGenerationPredicate().test(currentState))
                         continue; //do not generate if predicate didn't match
                     IBlockState newState = definition.getBlockFiller().getStateForGeneration(currentState, blockX, blockY, blockZ);
-                    //set flags as 16 to avoid observer updates loading neighbour chunks
-                    world.setBlockState(blockPos, newState, 16);
+                    if(newState == currentState)
+                        continue;
+                    if(blockStorage != Chunk.NULL_BLOCK_STORAGE && canSetDirectly(world, blockPos, currentState, newState)) {
+                        blockStorage.set(blockX, blockY & 0xF, blockZ, newState);
+                        chunkModified = true;
+                    } else {
+                        //set flags as 16 to avoid observer updates loading neighbour chunks
+                        world.setBlockState(blockPos, newState, 16);
+                        //section could be created by setBlockState, so look it up again
+                        currentSectionIndex = -1;
+                    }
                 }
             }
+            if(chunkModified) {
+                chunk.markDirty();
+            }
+        }
+
+        private static boolean canSetDirectly(World world, BlockPos blockPos, IBlockState currentState, IBlockState newState) {
+            return !currentState.getBlock().hasTileEntity(currentState) &&
+                !newState.getBlock().hasTileEntity(newState) &&
+                currentState.getLightOpacity(world, blockPos) == newState.getLightOpacity(world, blockPos) &&
+                currentState.getLightValue(world, blockPos) == newState.getLightValue(world, blockPos);
         }
 
     }
@@ -0,0 +1,165 @@
+package gregtech.api.worldgen.generator;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import gregtech.common.ConfigHolder;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Plans ore veins of grid entries around recently generated chunks on background threads
+ * Vein planning depends only on world seed, grid coordinates and vein definitions of grid,
+ * so it can be done ahead of world generation, and main thread only places already planned blocks
+ * Biome lookup isn't thread safe though, so vein definitions of grid are still resolved on main thread
+ */
+public class GridEntryPlanner {
+
+    private static final int PLANNING_RADIUS = 2;
+    private static final int MAX_PLANNED_ENTRIES = 128;
+
+    private static final Map<World, Map<Long, Future<CachedGridEntry>>> plannedEntries = new WeakHashMap<>();
+    private static ExecutorService plannerExecutor;
+    private static ExecutorService taskExecutor;
+
+    public static void init() {
+        MinecraftForge.EVENT_BUS.register(GridEntryPlanner.class);
+    }
+
+    /**
+     * Moves finished entries into grid cache and schedules planning of
+     * grid entries around given one, which aren't cached or planned yet
+     * Should be called from thread owning world, usually during world generation
+     */
+    public static void planAround(World world, int selfGridX, int selfGridZ) {
+        if(ConfigHolder.oreVeinPlannerThreads <= 0)
+            return;
+        Map<Long, Future<CachedGridEntry>> worldEntries = plannedEntries.computeIfAbsent(world, k -> new HashMap<>());
+        collectFinishedEntries(world, worldEntries);
+        for(int gridX = selfGridX - PLANNING_RADIUS; gridX <= selfGridX + PLANNING_RADIUS; gridX++) {
+            for(int gridZ = selfGridZ - PLANNING_RADIUS; gridZ <= selfGridZ + PLANNING_RADIUS; gridZ++) {
+                if(worldEntries.size() >= MAX_PLANNED_ENTRIES)
+                    return; //workers are behind world generation, don't queue up even more work
+                long gridKey = CachedGridEntry.getGridKey(gridX, gridZ);
+                if(worldEntries.containsKey(gridKey) || CachedGridEntry.isEntryCached(world, gridKey) ||
+                    GridEntryStorage.hasEntry(world, gridX, gridZ))
+                    continue;
+                long worldSeed = world.getSeed();
+                int maxHeight = world.getActualHeight();
+                int plannedGridX = gridX, plannedGridZ = gridZ;
+                List<Entry<Integer, OreDepositDefinition>> depositMap = CachedGridEntry.getGridDepositMap(world, gridX, gridZ);
+                worldEntries.put(gridKey, getPlannerExecutor().submit(() ->
+                    new CachedGridEntry(worldSeed, plannedGridX, plannedGridZ, maxHeight, depositMap)));
+            }
+        }
+    }
+
+    /**
+     * Removes planned entry for given grid, waiting for it to finish if it's still computing
+     * @return planned entry, or null if entry wasn't planned or planning failed
+     */
+    static CachedGridEntry takePlannedEntry(World world, long gridKey) {
+        Map<Long, Future<CachedGridEntry>> worldEntries = plannedEntries.get(world);
+        Future<CachedGridEntry> plannedEntry = worldEntries == null ? null : worldEntries.remove(gridKey);
+        return plannedEntry == null ? null : getEntry(plannedEntry);
+    }
+
+    static void clearPlannedEntries() {
+        for(Map<Long, Future<CachedGridEntry>> worldEntries : plannedEntries.values()) {
+            worldEntries.values().forEach(entry -> entry.cancel(true));
+        }
+        plannedEntries.clear();
+    }
+
+    /**
+     * Cancels all planning and stops planner threads, they are started again on next use
+     * Should be called once server is stopped
+     */
+    public static void shutdown() {
+        clearPlannedEntries();
+        if(plannerExecutor != null) {
+            plannerExecutor.shutdownNow();
+            plannerExecutor = null;
+        }
+        if(taskExecutor != null) {
+            taskExecutor.shutdownNow();
+            taskExecutor = null;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        Map<Long, Future<CachedGridEntry>> worldEntries = plannedEntries.remove(event.getWorld());
+        if(worldEntries != null) {
+            worldEntries.values().forEach(entry -> entry.cancel(true));
+        }
+    }
+
+    /**
+     * Runs given task on separate worldgen task thread, so it doesn't block thread owning world
+     * and doesn't compete with chunk planning for planner threads, which would skew its timings
+     */
+    public static <T> CompletableFuture<T> submitTask(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, getTaskExecutor());
+    }
+
+    private static void collectFinishedEntries(World world, Map<Long, Future<CachedGridEntry>> worldEntries) {
+        Iterator<Entry<Long, Future<CachedGridEntry>>> iterator = worldEntries.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Entry<Long, Future<CachedGridEntry>> plannedEntry = iterator.next();
+            if(!plannedEntry.getValue().isDone())
+                continue;
+            iterator.remove();
+            CachedGridEntry gridEntry = getEntry(plannedEntry.getValue());
+            if(gridEntry != null) {
+                CachedGridEntry.putEntry(world, plannedEntry.getKey(), gridEntry);
+            }
+        }
+    }
+
+    private static CachedGridEntry getEntry(Future<CachedGridEntry> plannedEntry) {
+        try {
+            return plannedEntry.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException exception) {
+            GTLog.logger.error("Failed to plan ore veins of grid entry", exception.getCause());
+            return null;
+        }
+    }
+
+    private static ExecutorService getPlannerExecutor() {
+        if(plannerExecutor == null) {
+            plannerExecutor = Executors.newFixedThreadPool(ConfigHolder.oreVeinPlannerThreads, new ThreadFactoryBuilder()
+                .setNameFormat("GregTech Ore Vein Planner #%d")
+                .setDaemon(true)
+                .setPriority(Thread.MIN_PRIORITY)
+                .build());
+        }
+        return plannerExecutor;
+    }
+
+    private static ExecutorService getTaskExecutor() {
+        if(taskExecutor == null) {
+            taskExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("GregTech Worldgen Task #%d")
+                .setDaemon(true)
+                .setPriority(Thread.MIN_PRIORITY)
+                .build());
+        }
+        return taskExecutor;
+    }
+
+}
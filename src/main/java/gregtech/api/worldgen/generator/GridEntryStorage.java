@@ -0,0 +1,228 @@
+package gregtech.api.worldgen.generator;
+
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.common.ConfigHolder;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Persists planned grid entries in world save, so they aren't planned again after restart
+ * Entries are stored in region files of 32x32 grids, appended one after another
+ * Each file has header with world seed and hash of vein definitions and vein count settings,
+ * and file is cleared once any of these changes, so stored entries never refer to outdated definitions
+ * Storage is accessed only from server thread
+ */
+public class GridEntryStorage {
+
+    private static final int REGION_FILE_MAGIC = 0x47545647;
+    private static final int REGION_FILE_VERSION = 1;
+    private static final int REGION_HEADER_SIZE = 20;
+    private static final int ENTRY_HEADER_SIZE = 12;
+    private static final int REGION_SIZE = 32;
+    private static final int MAX_OPEN_REGIONS = 16;
+
+    private static final Map<World, Map<Long, RegionFile>> openRegions = new WeakHashMap<>();
+
+    public static void init() {
+        MinecraftForge.EVENT_BUS.register(GridEntryStorage.class);
+    }
+
+    /**
+     * @return stored grid entry, or null if storage is disabled, entry isn't stored or can't be read
+     */
+    static CachedGridEntry loadEntry(World world, int gridX, int gridZ) {
+        RegionFile regionFile = getRegionFile(world, gridX, gridZ);
+        if(regionFile == null)
+            return null;
+        try {
+            return regionFile.readEntry(gridX, gridZ);
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to read stored ore veins of grid {}, {}", gridX, gridZ, exception);
+            return null;
+        }
+    }
+
+    static boolean hasEntry(World world, int gridX, int gridZ) {
+        RegionFile regionFile = getRegionFile(world, gridX, gridZ);
+        return regionFile != null && regionFile.hasEntry(gridX, gridZ);
+    }
+
+    static void saveEntry(World world, CachedGridEntry gridEntry) {
+        RegionFile regionFile = getRegionFile(world, gridEntry.getGridX(), gridEntry.getGridZ());
+        if(regionFile == null || regionFile.hasEntry(gridEntry.getGridX(), gridEntry.getGridZ()))
+            return;
+        try {
+            regionFile.writeEntry(gridEntry);
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to store ore veins of grid {}, {}", gridEntry.getGridX(), gridEntry.getGridZ(), exception);
+        }
+    }
+
+    /**
+     * Closes all open region files, so they're opened and validated again on next access
+     */
+    static void closeAll() {
+        for(Map<Long, RegionFile> worldRegions : openRegions.values()) {
+            worldRegions.values().forEach(RegionFile::close);
+        }
+        openRegions.clear();
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        Map<Long, RegionFile> worldRegions = openRegions.remove(event.getWorld());
+        if(worldRegions != null) {
+            worldRegions.values().forEach(RegionFile::close);
+        }
+    }
+
+    private static RegionFile getRegionFile(World world, int gridX, int gridZ) {
+        if(!ConfigHolder.storeOreVeinPlans || world.isRemote)
+            return null;
+        Map<Long, RegionFile> worldRegions = openRegions.computeIfAbsent(world, k -> new LinkedHashMap<>(16, 0.75f, true));
+        int regionX = Math.floorDiv(gridX, REGION_SIZE);
+        int regionZ = Math.floorDiv(gridZ, REGION_SIZE);
+        long regionKey = CachedGridEntry.getGridKey(regionX, regionZ);
+        RegionFile regionFile = worldRegions.get(regionKey);
+        if(regionFile != null)
+            return regionFile;
+        if(worldRegions.size() >= MAX_OPEN_REGIONS) {
+            //access ordered map, so first region is the least recently used one
+            Iterator<RegionFile> iterator = worldRegions.values().iterator();
+            iterator.next().close();
+            iterator.remove();
+        }
+        File regionPath = new File(getStorageDirectory(world), String.format("r.%d.%d.gtv", regionX, regionZ));
+        try {
+            regionFile = new RegionFile(regionPath, world.getSeed(), getSettingsHash());
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to open ore vein storage file {}", regionPath, exception);
+            return null;
+        }
+        worldRegions.put(regionKey, regionFile);
+        return regionFile;
+    }
+
+    private static File getStorageDirectory(World world) {
+        File worldDirectory = world.getSaveHandler().getWorldDirectory();
+        String dimensionFolder = world.provider.getSaveFolder();
+        if(dimensionFolder != null) {
+            worldDirectory = new File(worldDirectory, dimensionFolder);
+        }
+        return new File(worldDirectory, "data/gregtech_ore_veins");
+    }
+
+    private static int getSettingsHash() {
+        int hash = WorldGenRegistry.INSTANCE.getDefinitionsHash();
+        hash = 31 * hash + ConfigHolder.minVeinsInSection;
+        hash = 31 * hash + ConfigHolder.additionalVeinsInSection;
+        return hash;
+    }
+
+    private static class RegionFile {
+
+        private final File path;
+        private final RandomAccessFile file;
+        //grid key -> offset of entry data length in file
+        private final TLongLongMap entryOffsets = new TLongLongHashMap();
+
+        private RegionFile(File path, long worldSeed, int settingsHash) throws IOException {
+            this.path = path;
+            path.getParentFile().mkdirs();
+            this.file = new RandomAccessFile(path, "rw");
+            try {
+                if(!readHeader(worldSeed, settingsHash)) {
+                    file.setLength(0L);
+                    file.writeInt(REGION_FILE_MAGIC);
+                    file.writeInt(REGION_FILE_VERSION);
+                    file.writeLong(worldSeed);
+                    file.writeInt(settingsHash);
+                } else {
+                    readEntryOffsets();
+                }
+            } catch (IOException exception) {
+                file.close();
+                throw exception;
+            }
+        }
+
+        private boolean readHeader(long worldSeed, int settingsHash) throws IOException {
+            if(file.length() < REGION_HEADER_SIZE)
+                return false;
+            file.seek(0L);
+            return file.readInt() == REGION_FILE_MAGIC &&
+                file.readInt() == REGION_FILE_VERSION &&
+                file.readLong() == worldSeed &&
+                file.readInt() == settingsHash;
+        }
+
+        private void readEntryOffsets() throws IOException {
+            long fileLength = file.length();
+            long offset = REGION_HEADER_SIZE;
+            while(offset + ENTRY_HEADER_SIZE <= fileLength) {
+                file.seek(offset);
+                int gridX = file.readInt();
+                int gridZ = file.readInt();
+                int dataLength = file.readInt();
+                if(dataLength < 0 || offset + ENTRY_HEADER_SIZE + dataLength > fileLength)
+                    break; //entry was only partially written, drop it
+                entryOffsets.put(CachedGridEntry.getGridKey(gridX, gridZ), offset + 8);
+                offset += ENTRY_HEADER_SIZE + dataLength;
+            }
+            if(offset != fileLength) {
+                GTLog.logger.warn("Truncating damaged ore vein storage file {}", path);
+                file.setLength(offset);
+            }
+        }
+
+        private boolean hasEntry(int gridX, int gridZ) {
+            return entryOffsets.containsKey(CachedGridEntry.getGridKey(gridX, gridZ));
+        }
+
+        private CachedGridEntry readEntry(int gridX, int gridZ) throws IOException {
+            long gridKey = CachedGridEntry.getGridKey(gridX, gridZ);
+            if(!entryOffsets.containsKey(gridKey))
+                return null;
+            file.seek(entryOffsets.get(gridKey));
+            byte[] entryData = new byte[file.readInt()];
+            file.readFully(entryData);
+            return CachedGridEntry.readEntry(gridX, gridZ, new DataInputStream(new ByteArrayInputStream(entryData)));
+        }
+
+        private void writeEntry(CachedGridEntry gridEntry) throws IOException {
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+            DataOutputStream dataStream = new DataOutputStream(byteStream);
+            dataStream.writeInt(gridEntry.getGridX());
+            dataStream.writeInt(gridEntry.getGridZ());
+            dataStream.writeInt(0); //placeholder for data length
+            gridEntry.writeEntry(dataStream);
+            byte[] entryData = byteStream.toByteArray();
+            int dataLength = entryData.length - ENTRY_HEADER_SIZE;
+            entryData[8] = (byte) (dataLength >>> 24);
+            entryData[9] = (byte) (dataLength >>> 16);
+            entryData[10] = (byte) (dataLength >>> 8);
+            entryData[11] = (byte) dataLength;
+            long offset = file.length();
+            file.seek(offset);
+            file.write(entryData);
+            entryOffsets.put(CachedGridEntry.getGridKey(gridEntry.getGridX(), gridEntry.getGridZ()), offset + 8);
+        }
+
+        private void close() {
+            try {
+                file.close();
+            } catch (IOException exception) {
+                GTLog.logger.error("Failed to close ore vein storage file {}", path, exception);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package gregtech.api.worldgen.generator;
+
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import net.minecraft.world.World;
+
+import java.util.*;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+/**
+ * Plans ore veins for square region of grid entries without placing any blocks,
+ * and collects amount of veins, planned ore blocks and time spent on each grid entry
+ * Used by /gregtech worldgen stats command and worldgen benchmarks to tune vein settings
+ */
+public class VeinPlanStatistics {
+
+    private final int gridCount;
+    private int totalVeins;
+    private long totalNanos;
+    private long maxGridNanos;
+    private final Map<OreDepositDefinition, Long> oreBlocks = new HashMap<>();
+
+    private VeinPlanStatistics(int gridCount) {
+        this.gridCount = gridCount;
+    }
+
+    /**
+     * Plans veins of gridSize x gridSize grid entries starting at given grid
+     * Grid entries are created directly, so they don't go through grid cache, background planner or storage
+     * Vein definitions of grid are resolved from biomes, so it should be called from thread owning world
+     */
+    public static VeinPlanStatistics collect(World world, int startGridX, int startGridZ, int gridSize) {
+        return prepare(world, startGridX, startGridZ, gridSize).get();
+    }
+
+    /**
+     * Resolves vein definitions of gridSize x gridSize grid entries starting at given grid on calling thread,
+     * which should be thread owning world, and returns task planning their veins
+     * Task doesn't access world, so it can be run on any thread, and can be run multiple times
+     * Reported planning time doesn't include resolving vein definitions
+     */
+    public static Supplier<VeinPlanStatistics> prepare(World world, int startGridX, int startGridZ, int gridSize) {
+        long worldSeed = world.getSeed();
+        int maxHeight = world.getActualHeight();
+        List<List<Entry<Integer, OreDepositDefinition>>> depositMaps = new ArrayList<>();
+        for(int gridX = startGridX; gridX < startGridX + gridSize; gridX++) {
+            for(int gridZ = startGridZ; gridZ < startGridZ + gridSize; gridZ++) {
+                depositMaps.add(CachedGridEntry.getGridDepositMap(world, gridX, gridZ));
+            }
+        }
+        return () -> {
+            VeinPlanStatistics statistics = new VeinPlanStatistics(gridSize * gridSize);
+            Iterator<List<Entry<Integer, OreDepositDefinition>>> depositMapIterator = depositMaps.iterator();
+            for(int gridX = startGridX; gridX < startGridX + gridSize; gridX++) {
+                for(int gridZ = startGridZ; gridZ < startGridZ + gridSize; gridZ++) {
+                    //grid entry modifies deposit map during generation, so give it a copy
+                    List<Entry<Integer, OreDepositDefinition>> depositMap = new ArrayList<>(depositMapIterator.next());
+                    long startTime = System.nanoTime();
+                    CachedGridEntry gridEntry = new CachedGridEntry(worldSeed, gridX, gridZ, maxHeight, depositMap);
+                    long gridNanos = System.nanoTime() - startTime;
+                    statistics.addGridEntry(gridEntry, gridNanos);
+                }
+            }
+            return statistics;
+        };
+    }
+
+    private void addGridEntry(CachedGridEntry gridEntry, long gridNanos) {
+        this.totalVeins += gridEntry.getGeneratedVeins().size();
+        this.totalNanos += gridNanos;
+        this.maxGridNanos = Math.max(maxGridNanos, gridNanos);
+        for(CachedGridEntry.ChunkDataEntry chunkDataEntry : gridEntry.getChunkDataEntries()) {
+            for(OreDepositDefinition definition : chunkDataEntry.getOreDefinitions()) {
+                oreBlocks.merge(definition, (long) chunkDataEntry.getOreBlocksCount(definition), Long::sum);
+            }
+        }
+    }
+
+    public int getGridCount() {
+        return gridCount;
+    }
+
+    public int getChunkCount() {
+        return gridCount * WorldGeneratorImpl.GRID_SIZE_X * WorldGeneratorImpl.GRID_SIZE_Z;
+    }
+
+    public int getTotalVeins() {
+        return totalVeins;
+    }
+
+    public double getVeinsPerGrid() {
+        return totalVeins / (double) gridCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public double getNanosPerGrid() {
+        return totalNanos / (double) gridCount;
+    }
+
+    public long getMaxGridNanos() {
+        return maxGridNanos;
+    }
+
+    /**
+     * @return average amount of planned ore blocks per chunk for each vein definition, sorted from highest to lowest
+     * Planned blocks include ones which won't pass generation predicate of definition once placed into world
+     */
+    public List<Entry<OreDepositDefinition, Double>> getOreBlocksPerChunk() {
+        List<Entry<OreDepositDefinition, Double>> result = new ArrayList<>();
+        for(Entry<OreDepositDefinition, Long> entry : oreBlocks.entrySet()) {
+            result.add(new SimpleEntry<>(entry.getKey(), entry.getValue() / (double) getChunkCount()));
+        }
+        result.sort(Collections.reverseOrder(Entry.comparingByValue()));
+        return result;
+    }
+
+}
@@ -48,6 +48,8 @@ public class WorldGeneratorImpl implements IWorldGenerator {
         int selfGridX = Math.floorDiv(chunkX, GRID_SIZE_X);
         int selfGridZ = Math.floorDiv(chunkZ, GRID_SIZE_Z);
         List<OreDepositDefinition> generatedOres = generateInternal(world, selfGridX, selfGridZ, chunkX, chunkZ);
+        //plan veins of nearby grid entries in background, so they're ready once world generation gets there
+        GridEntryPlanner.planAround(world, selfGridX, selfGridZ);
 
         //if generated ores aren't empty, and surface rocks are enabled in config, attempt to generate them
         if (generatedOres.isEmpty() || !ConfigHolder.enableOreVeinSurfaceRocks)
@@ -18,6 +18,15 @@ public class ConfigHolder {
     @Config.Comment("Specifies additional random amount of veins in section")
     public static int additionalVeinsInSection = 2;
 
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Amount of background threads planning ore veins ahead of world generation. 0 disables background planning. Default: 2")
+    @Config.RequiresMcRestart
+    public static int oreVeinPlannerThreads = 2;
+
+    @Config.Comment("Whether to store planned ore veins in world save, so they aren't planned again after restart. " +
+        "Stored veins are discarded automatically when worldgen config changes. Default: false")
+    public static boolean storeOreVeinPlans = false;
+
     @Config.Comment("True to enable surface rocks indicating vein under them")
     public static boolean enableOreVeinSurfaceRocks = true;
 
@@ -30,6 +39,15 @@ public class ConfigHolder {
     @Config.Comment("Whether machines should explode when overloaded with power. Default: true")
     public static boolean doExplosions = true;
 
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Multiblock structures are re-checked when blocks inside of them change. This sets interval in ticks of additional " +
+        "verification catching changes made without block updates, 0 to disable. Default: 600")
+    public static int multiblockStructureVerificationInterval = 600;
+
+    @Config.RangeInt(min = 1)
+    @Config.Comment("Minimal interval in ticks between machine stored energy updates sent to clients. Default: 5")
+    public static int energySyncInterval = 5;
+
     @Config.Comment("Energy use multiplier for electric items. Default: 100")
     public static int energyUsageMultiplier = 100;
 
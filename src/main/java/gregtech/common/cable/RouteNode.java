@@ -0,0 +1,45 @@
+package gregtech.common.cable;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Single cable node of energy route, linked to previous node towards route source.
+ * Nodes are immutable, so one node is shared by all routes passing trough it
+ * and route is never copied when it is extended by another cable.
+ */
+public class RouteNode {
+
+    public final BlockPos nodePos;
+    public final WireProperties wireProperties;
+    public final RouteNode parent;
+    public final int totalLoss;
+    public final int pathLength;
+    public final int minVoltage;
+    public final int minAmperage;
+
+    public RouteNode(BlockPos nodePos, WireProperties wireProperties, RouteNode parent) {
+        this.nodePos = nodePos;
+        this.wireProperties = wireProperties;
+        this.parent = parent;
+        if(parent == null) {
+            this.totalLoss = wireProperties.lossPerBlock;
+            this.pathLength = 1;
+            this.minVoltage = wireProperties.voltage;
+            this.minAmperage = wireProperties.amperage;
+        } else {
+            this.totalLoss = parent.totalLoss + wireProperties.lossPerBlock;
+            this.pathLength = parent.pathLength + 1;
+            this.minVoltage = Math.min(parent.minVoltage, wireProperties.voltage);
+            this.minAmperage = Math.min(parent.minAmperage, wireProperties.amperage);
+        }
+    }
+
+    /**
+     * @return true if route trough this node is shorter than route with given loss and length
+     * Routes with equal loss are compared by amount of cables in them
+     */
+    public boolean isShorterThan(int otherTotalLoss, int otherPathLength) {
+        return totalLoss < otherTotalLoss || (totalLoss == otherTotalLoss && pathLength < otherPathLength);
+    }
+
+}
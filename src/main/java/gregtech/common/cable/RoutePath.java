@@ -8,33 +8,34 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
-import java.util.HashMap;
+import java.util.Comparator;
 
 public class RoutePath {
 
-    public BlockPos destination;
-    public HashMap<BlockPos, WireProperties> path = new HashMap<>();
-    public int minAmperage = Integer.MAX_VALUE;
-    public int minVoltage = Integer.MAX_VALUE;
-    public int totalLoss;
-
-    public RoutePath cloneAndCompute(BlockPos destination) {
-        RoutePath newPath = new RoutePath();
-        newPath.path = new HashMap<>(path);
-        newPath.destination = destination;
-        for(WireProperties wireProperties : path.values()) {
-            newPath.minAmperage = Math.min(newPath.minAmperage, wireProperties.amperage);
-            newPath.minVoltage = Math.min(newPath.minVoltage, wireProperties.voltage);
-            newPath.totalLoss += wireProperties.lossPerBlock;
-        }
-        return newPath;
+    public static final Comparator<RoutePath> SHORTEST_FIRST = Comparator
+        .comparingInt((RoutePath path) -> path.totalLoss)
+        .thenComparingInt(path -> path.endNode.pathLength);
+
+    public final BlockPos destination;
+    public final RouteNode endNode;
+    public final int minAmperage;
+    public final int minVoltage;
+    public final int totalLoss;
+
+    public RoutePath(RouteNode endNode) {
+        this.destination = endNode.nodePos;
+        this.endNode = endNode;
+        this.minAmperage = endNode.minAmperage;
+        this.minVoltage = endNode.minVoltage;
+        this.totalLoss = endNode.totalLoss;
     }
 
     public boolean burnCablesInPath(World world, long voltage, long amperage) {
         if(minVoltage >= voltage && minAmperage >= amperage)
             return false;
-        for(BlockPos blockPos : path.keySet()) {
-            WireProperties wireProperties = path.get(blockPos);
+        for(RouteNode routeNode = endNode; routeNode != null; routeNode = routeNode.parent) {
+            BlockPos blockPos = routeNode.nodePos;
+            WireProperties wireProperties = routeNode.wireProperties;
             if(voltage > wireProperties.voltage || amperage > wireProperties.amperage) {
                 TileEntity tileEntity = world.getTileEntity(blockPos);
                 if(!world.isRemote) {
@@ -1,5 +1,19 @@
 package gregtech.common.cable.net;
 
+import gnu.trove.impl.Constants;
+import gnu.trove.iterator.TLongIntIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.list.array.TByteArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import gregtech.common.cable.RoutePath;
 import gregtech.common.cable.WireProperties;
 import net.minecraft.nbt.NBTTagCompound;
@@ -11,36 +25,46 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
-import java.util.*;
-import java.util.Map.Entry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class EnergyNet implements INBTSerializable<NBTTagCompound> {
 
+    //node data is packed into single int: blocked connections mask, active flag and wire properties palette index
+    private static final int NO_NODE = -1;
+    private static final int BLOCKED_CONNECTIONS_MASK = 0x3F;
+    private static final int ACTIVE_NODE_FLAG = 0x40;
+    private static final int PALETTE_INDEX_SHIFT = 8;
+
     private final WorldENet worldData;
-    private Map<BlockPos, WireProperties> allNodes = new HashMap<>();
-    private Map<BlockPos, Integer> blockedConnections = new HashMap<>();
-    private Set<BlockPos> activeNodes = new HashSet<>();
-    private long lastUpdatedTime;
+    private final TLongIntMap nodeData = new TLongIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, 0L, NO_NODE);
+    private final List<WireProperties> wirePalette = new ArrayList<>();
+    private final TObjectIntMap<WireProperties> wirePaletteIndexes = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+    private final TLongObjectMap<EnergyRouteTree> routeTrees = new TLongObjectHashMap<>();
+    private NBTTagCompound cachedNBT;
 
     public EnergyNet(WorldENet world) {
         this.worldData = world;
     }
 
-    private EnergyNet(WorldENet worldENet, Map<BlockPos, WireProperties> allNodesCopy, Map<BlockPos, Integer> blockedConnections, Set<BlockPos> activeNodes) {
+    private EnergyNet(WorldENet worldENet, EnergyNet parentNet, TLongSet nodePositions) {
         this.worldData = worldENet;
-        this.allNodes = allNodesCopy;
-        this.activeNodes = new HashSet<>(activeNodes);
-        this.blockedConnections = new HashMap<>(blockedConnections);
-        this.blockedConnections.keySet().removeIf(p -> !allNodes.containsKey(p));
-        this.activeNodes.removeIf(p -> !allNodes.containsKey(p));
-    }
-
-    public Map<BlockPos, WireProperties> getAllNodes() {
-        return Collections.unmodifiableMap(allNodes);
+        //palette is tiny, so copy it as is to keep node palette indexes valid
+        this.wirePalette.addAll(parentNet.wirePalette);
+        this.wirePaletteIndexes.putAll(parentNet.wirePaletteIndexes);
+        TLongIterator iterator = nodePositions.iterator();
+        while(iterator.hasNext()) {
+            long nodeKey = iterator.next();
+            nodeData.put(nodeKey, parentNet.nodeData.get(nodeKey));
+        }
     }
 
-    public Set<BlockPos> getActiveNodes() {
-        return Collections.unmodifiableSet(activeNodes);
+    /**
+     * @return read-only view of packed positions (see {@link BlockPos#toLong()}) of all nodes in this net
+     */
+    public TLongSet getNodePositions() {
+        return nodeData.keySet();
     }
 
     public World getWorldData() {
@@ -48,14 +72,15 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
     }
 
     public void removeNode(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.remove(nodePos);
-            blockedConnections.remove(nodePos);
-            boolean needToUpdateRoutes = allNodes.remove(nodePos) != null;
+        long nodeKey = nodePos.toLong();
+        if(nodeData.containsKey(nodeKey)) {
+            nodeData.remove(nodeKey);
+            worldData.onNodeRemoved(nodeKey, this);
+            boolean networkWasSplit = false;
             int amountOfConnectedSides = 0;
             for(EnumFacing facing : EnumFacing.values()) {
                 BlockPos offsetPos = nodePos.offset(facing);
-                if(allNodes.containsKey(offsetPos))
+                if(containsNode(offsetPos))
                     amountOfConnectedSides++;
             }
             //if we are connected only on one side or not connected at all, we don't need to find connected blocks
@@ -66,218 +91,255 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
                     BlockPos offsetPos = nodePos.offset(facing);
                     if(!containsNotBlocked(offsetPos, facing.getOpposite()))
                         continue;
-                    HashMap<BlockPos, WireProperties> thisENet = findAllConnectedBlocks(offsetPos);
-                    if(allNodes.equals(thisENet)) {
+                    TLongSet thisENet = findAllConnectedBlocks(offsetPos);
+                    if(thisENet.size() == nodeData.size()) {
                         //if cable on some direction contains all nodes of this network
                         //the network didn't change so keep it as is
                         break;
                     } else {
                         //and use them to create new network with caching active nodes set
-                        EnergyNet energyNet = new EnergyNet(worldData, thisENet, blockedConnections, activeNodes);
+                        EnergyNet energyNet = new EnergyNet(worldData, this, thisENet);
                         //remove blocks that aren't connected with this network
-                        allNodes.keySet().removeAll(thisENet.keySet());
-                        blockedConnections.keySet().removeAll(thisENet.keySet());
-                        activeNodes.removeAll(thisENet.keySet());
+                        TLongIterator iterator = thisENet.iterator();
+                        while(iterator.hasNext()) {
+                            nodeData.remove(iterator.next());
+                        }
                         worldData.addEnergyNet(energyNet);
-                        needToUpdateRoutes = true;
+                        networkWasSplit = true;
                     }
                 }
             }
-            if(allNodes.isEmpty()) {
+            if(nodeData.isEmpty()) {
                 //if this energy net is empty now, remove it
                 worldData.removeEnergyNet(this);
             }
-            if(needToUpdateRoutes) {
-                //update routes only if needed, since it's quite expensive operation too
-                lastUpdatedTime = System.currentTimeMillis();
+            if(networkWasSplit) {
+                //nodes moved to other networks, so it's easier to compute remaining routes from scratch
+                routeTrees.clear();
+            } else {
+                routeTrees.remove(nodeKey);
+                for(EnergyRouteTree routeTree : routeTrees.valueCollection()) {
+                    routeTree.onNodeRemoved(nodePos);
+                }
             }
-            worldData.markDirty();
+            markDirty();
         }
     }
 
-    //used to update paths cache in TileEntityCable
-    public long getLastUpdatedTime() {
-        return lastUpdatedTime;
+    public boolean containsNode(BlockPos blockPos) {
+        return nodeData.containsKey(blockPos.toLong());
+    }
+
+    public boolean isNodeActive(BlockPos blockPos) {
+        int nodeValue = nodeData.get(blockPos.toLong());
+        return nodeValue != NO_NODE && (nodeValue & ACTIVE_NODE_FLAG) != 0;
     }
 
-    public boolean containsNode(BlockPos blockPos) {
-        return allNodes.containsKey(blockPos);
+    WireProperties getNodeProperties(BlockPos blockPos) {
+        int nodeValue = nodeData.get(blockPos.toLong());
+        return nodeValue == NO_NODE ? null : wirePalette.get(nodeValue >>> PALETTE_INDEX_SHIFT);
     }
 
     public void addNode(BlockPos nodePos, WireProperties wireProperties, int blockedConnectionsMask) {
-        allNodes.put(nodePos, wireProperties);
-        blockedConnections.put(nodePos, blockedConnectionsMask);
-        worldData.markDirty();
+        long nodeKey = nodePos.toLong();
+        int oldValue = nodeData.get(nodeKey);
+        int activeFlag = oldValue == NO_NODE ? 0 : oldValue & ACTIVE_NODE_FLAG;
+        nodeData.put(nodeKey, packNode(getPaletteIndex(wireProperties), blockedConnectionsMask) | activeFlag);
+        worldData.onNodeAdded(nodeKey, this);
+        if(oldValue != NO_NODE) {
+            //node properties changed, so some routes may become longer
+            routeTrees.clear();
+        } else {
+            for(EnergyRouteTree routeTree : routeTrees.valueCollection()) {
+                routeTree.onNodeAdded(nodePos);
+            }
+        }
+        markDirty();
     }
 
     public void markNodeAsActive(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.add(nodePos);
-            worldData.markDirty();
-            lastUpdatedTime = System.currentTimeMillis();
+        long nodeKey = nodePos.toLong();
+        int nodeValue = nodeData.get(nodeKey);
+        if(nodeValue != NO_NODE && (nodeValue & ACTIVE_NODE_FLAG) == 0) {
+            nodeData.put(nodeKey, nodeValue | ACTIVE_NODE_FLAG);
+            for(EnergyRouteTree routeTree : routeTrees.valueCollection()) {
+                routeTree.onNodeActivated(nodePos);
+            }
+            markDirty();
         }
     }
 
     public void markNodeAsInactive(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.remove(nodePos);
-            worldData.markDirty();
-            lastUpdatedTime = System.currentTimeMillis();
+        long nodeKey = nodePos.toLong();
+        int nodeValue = nodeData.get(nodeKey);
+        if(nodeValue != NO_NODE && (nodeValue & ACTIVE_NODE_FLAG) != 0) {
+            nodeData.put(nodeKey, nodeValue & ~ACTIVE_NODE_FLAG);
+            for(EnergyRouteTree routeTree : routeTrees.valueCollection()) {
+                routeTree.onNodeDeactivated(nodePos);
+            }
+            markDirty();
         }
     }
 
     public void uniteNetworks(EnergyNet energyNet) {
         worldData.removeEnergyNet(energyNet);
-        allNodes.putAll(energyNet.allNodes);
-        activeNodes.addAll(energyNet.activeNodes);
-        blockedConnections.putAll(energyNet.blockedConnections);
-        worldData.markDirty();
-        lastUpdatedTime = System.currentTimeMillis();
+        TLongIntIterator iterator = energyNet.nodeData.iterator();
+        while(iterator.hasNext()) {
+            iterator.advance();
+            //palette indexes of other network are different, so remap them
+            int nodeValue = iterator.value();
+            WireProperties wireProperties = energyNet.wirePalette.get(nodeValue >>> PALETTE_INDEX_SHIFT);
+            int flags = nodeValue & ((1 << PALETTE_INDEX_SHIFT) - 1);
+            nodeData.put(iterator.key(), getPaletteIndex(wireProperties) << PALETTE_INDEX_SHIFT | flags);
+            worldData.onNodeAdded(iterator.key(), this);
+        }
+        routeTrees.clear();
+        markDirty();
     }
 
     public boolean containsNotBlocked(BlockPos blockPos, EnumFacing fromSide) {
-        return allNodes.containsKey(blockPos) &&
-            (blockedConnections.get(blockPos) & 1 << fromSide.getIndex()) == 0;
+        int nodeValue = nodeData.get(blockPos.toLong());
+        return nodeValue != NO_NODE && (nodeValue & 1 << fromSide.getIndex()) == 0;
     }
 
+    /**
+     * Returns paths from given node to all active nodes of this network, shortest first.
+     * Routes are cached per source node and updated incrementally when network changes,
+     * so calling this method often is cheap. Returned list should not be modified.
+     */
     public List<RoutePath> computePatches(BlockPos startPos) {
-        ArrayList<RoutePath> readyPaths = new ArrayList<>();
-        RoutePath currentPath = new RoutePath();
-        currentPath.path.put(startPos, allNodes.get(startPos));
-        readyPaths.add(currentPath.cloneAndCompute(startPos));
-        HashSet<BlockPos> observedSet = new HashSet<>();
-        observedSet.add(startPos);
-        MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
-        main: while(true) {
-            for(EnumFacing facing : EnumFacing.VALUES) {
-                currentPos.move(facing);
-                if(containsNotBlocked(currentPos, facing.getOpposite()) && !observedSet.contains(currentPos)) {
-                    BlockPos immutablePos = currentPos.toImmutable();
-                    observedSet.add(immutablePos);
-                    moveStack.push(facing.getOpposite());
-                    currentPath.path.put(immutablePos, allNodes.get(immutablePos));
-                    if(activeNodes.contains(currentPos)) {
-                        //if we are on active node, this is end of our path
-                        RoutePath finalizedPath = currentPath.cloneAndCompute(immutablePos);
-                        readyPaths.add(finalizedPath);
-                    }
-                    continue main;
-                } else {
-                    currentPos.move(facing.getOpposite());
-                }
-            }
-            if(!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
-                //also remove already visited block from path
-                currentPath.path.remove(currentPos);
-            } else break;
+        long sourceKey = startPos.toLong();
+        if(!nodeData.containsKey(sourceKey))
+            return Collections.emptyList();
+        EnergyRouteTree routeTree = routeTrees.get(sourceKey);
+        if(routeTree == null) {
+            routeTree = new EnergyRouteTree(this, startPos);
+            routeTrees.put(sourceKey, routeTree);
+        }
+        return routeTree.getPaths();
+    }
+
+    private int getPaletteIndex(WireProperties wireProperties) {
+        int paletteIndex = wirePaletteIndexes.get(wireProperties);
+        if(paletteIndex == -1) {
+            paletteIndex = wirePalette.size();
+            wirePalette.add(wireProperties);
+            wirePaletteIndexes.put(wireProperties, paletteIndex);
         }
-        return readyPaths;
+        return paletteIndex;
+    }
+
+    private static int packNode(int paletteIndex, int blockedConnectionsMask) {
+        return paletteIndex << PALETTE_INDEX_SHIFT | blockedConnectionsMask & BLOCKED_CONNECTIONS_MASK;
     }
 
     //we need to search only this network
-    private HashMap<BlockPos, WireProperties> findAllConnectedBlocks(BlockPos startPos) {
-        HashMap<BlockPos, WireProperties> observedSet = new HashMap<>();
-        observedSet.put(startPos, allNodes.get(startPos));
+    private TLongSet findAllConnectedBlocks(BlockPos startPos) {
+        TLongSet observedSet = new TLongHashSet();
+        observedSet.add(startPos.toLong());
         MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
+        TByteArrayList moveStack = new TByteArrayList();
         main: while(true) {
             for(EnumFacing facing : EnumFacing.VALUES) {
                 currentPos.move(facing);
-                if(containsNotBlocked(currentPos, facing.getOpposite()) && !observedSet.containsKey(currentPos)) {
-                    observedSet.put(currentPos.toImmutable(), allNodes.get(currentPos));
-                    moveStack.push(facing.getOpposite());
+                if(containsNotBlocked(currentPos, facing.getOpposite()) && observedSet.add(currentPos.toLong())) {
+                    moveStack.add((byte) facing.getOpposite().getIndex());
                     continue main;
                 } else currentPos.move(facing.getOpposite());
             }
             if(!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
+                currentPos.move(EnumFacing.VALUES[moveStack.removeAt(moveStack.size() - 1)]);
             } else break;
         }
         return observedSet;
     }
 
+    /**
+     * Serializes this net into compact node data. Result is cached until net is changed,
+     * so unchanged nets are not serialized again on every world save. Returned tag should not be modified.
+     */
     @Override
     public NBTTagCompound serializeNBT() {
-        NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("Nodes", serializeAllNodeList(allNodes, blockedConnections, activeNodes));
-        return compound;
+        if(cachedNBT == null) {
+            NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("NodeData", serializeNodeData());
+            this.cachedNBT = compound;
+        }
+        return cachedNBT;
     }
 
     @Override
     public void deserializeNBT(NBTTagCompound nbt) {
-        Result result = deserializeAllNodeList(nbt.getCompoundTag("Nodes"));
-        this.allNodes = result.allNodes;
-        this.blockedConnections = result.blockedConnections;
-        this.activeNodes = result.activeNodes;
+        nodeData.clear();
+        wirePalette.clear();
+        wirePaletteIndexes.clear();
+        if(nbt.hasKey("NodeData", NBT.TAG_COMPOUND)) {
+            deserializeNodeData(nbt.getCompoundTag("NodeData"));
+        } else {
+            deserializeLegacyNodeList(nbt.getCompoundTag("Nodes"));
+        }
+        this.routeTrees.clear();
+        this.cachedNBT = null;
     }
 
-    private static NBTTagCompound serializeAllNodeList(Map<BlockPos, WireProperties> allNodes, Map<BlockPos, Integer> blockedConnections, Set<BlockPos> activeNodes) {
+    private void markDirty() {
+        this.cachedNBT = null;
+        worldData.markDirty();
+    }
+
+    //positions are split into two ints, because NBTTagLongArray has no public accessors
+    private NBTTagCompound serializeNodeData() {
         NBTTagCompound compound = new NBTTagCompound();
-        NBTTagList allNodesList = new NBTTagList();
-        NBTTagList wirePropertiesList = new NBTTagList();
-        HashMap<WireProperties, Integer> alreadyWritten = new HashMap<>();
-        int currentIndex = 0;
-
-        for(Entry<BlockPos, WireProperties> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
-            WireProperties wireProperties = entry.getValue();
-            NBTTagCompound nodeTag = new NBTTagCompound();
-            nodeTag.setInteger("x", nodePos.getX());
-            nodeTag.setInteger("y", nodePos.getY());
-            nodeTag.setInteger("z", nodePos.getZ());
-            int wirePropertiesIndex = alreadyWritten.getOrDefault(wireProperties, -1);
-            if(wirePropertiesIndex == -1) {
-                wirePropertiesIndex = currentIndex;
-                alreadyWritten.put(wireProperties, wirePropertiesIndex);
-                currentIndex++;
-            }
-            nodeTag.setInteger("index", wirePropertiesIndex);
-            if(blockedConnections.containsKey(nodePos)) {
-                nodeTag.setInteger("blocked", blockedConnections.get(nodePos));
-            }
-            if(activeNodes.contains(nodePos)) {
-                nodeTag.setBoolean("active", true);
-            }
-            allNodesList.appendTag(nodeTag);
+        int[] positions = new int[nodeData.size() * 2];
+        int[] nodes = new int[nodeData.size()];
+        int[] palette = new int[wirePalette.size() * 3];
+
+        TLongIntIterator iterator = nodeData.iterator();
+        for(int i = 0; iterator.hasNext(); i++) {
+            iterator.advance();
+            long nodeKey = iterator.key();
+            positions[i * 2] = (int) (nodeKey >>> 32);
+            positions[i * 2 + 1] = (int) nodeKey;
+            nodes[i] = iterator.value();
         }
-
-        for(Entry<WireProperties, Integer> entry : alreadyWritten.entrySet()) {
-            WireProperties wireProperties = entry.getKey();
-            int wirePropertiesIndex = entry.getValue();
-            NBTTagCompound propertiesTag = new NBTTagCompound();
-            propertiesTag.setInteger("index", wirePropertiesIndex);
-            propertiesTag.setInteger("voltage", wireProperties.voltage);
-            propertiesTag.setInteger("amperage", wireProperties.amperage);
-            propertiesTag.setInteger("loss_per_block", wireProperties.lossPerBlock);
-            wirePropertiesList.appendTag(propertiesTag);
+        for(int i = 0; i < wirePalette.size(); i++) {
+            WireProperties wireProperties = wirePalette.get(i);
+            palette[i * 3] = wireProperties.voltage;
+            palette[i * 3 + 1] = wireProperties.amperage;
+            palette[i * 3 + 2] = wireProperties.lossPerBlock;
         }
 
-        compound.setTag("NodeIndexes", allNodesList);
-        compound.setTag("WireProperties", wirePropertiesList);
+        compound.setIntArray("positions", positions);
+        compound.setIntArray("nodes", nodes);
+        compound.setIntArray("wire_properties", palette);
         return compound;
     }
 
-    private static class Result {
-        HashMap<BlockPos, WireProperties> allNodes;
-        HashMap<BlockPos, Integer> blockedConnections;
-        HashSet<BlockPos> activeNodes;
-
-        public Result(HashMap<BlockPos, WireProperties> allNodes, HashMap<BlockPos, Integer> blockedConnections, HashSet<BlockPos> activeNodes) {
-            this.allNodes = allNodes;
-            this.blockedConnections = blockedConnections;
-            this.activeNodes = activeNodes;
+    private void deserializeNodeData(NBTTagCompound compound) {
+        int[] positions = compound.getIntArray("positions");
+        int[] nodes = compound.getIntArray("nodes");
+        int[] palette = compound.getIntArray("wire_properties");
+        //palette is saved without duplicates, but remap indexes anyway to be safe against edited saves
+        int[] paletteIndexes = new int[palette.length / 3];
+        for(int i = 0; i < paletteIndexes.length; i++) {
+            paletteIndexes[i] = getPaletteIndex(new WireProperties(palette[i * 3], palette[i * 3 + 1], palette[i * 3 + 2]));
+        }
+        int nodeCount = Math.min(nodes.length, positions.length / 2);
+        for(int i = 0; i < nodeCount; i++) {
+            long nodeKey = (long) positions[i * 2] << 32 | positions[i * 2 + 1] & 0xFFFFFFFFL;
+            int savedIndex = nodes[i] >>> PALETTE_INDEX_SHIFT;
+            if(savedIndex >= paletteIndexes.length)
+                continue; //skip nodes with corrupted properties
+            int flags = nodes[i] & (BLOCKED_CONNECTIONS_MASK | ACTIVE_NODE_FLAG);
+            nodeData.put(nodeKey, paletteIndexes[savedIndex] << PALETTE_INDEX_SHIFT | flags);
         }
     }
 
-    private static Result deserializeAllNodeList(NBTTagCompound compound) {
+    //reads node list format used before compact node data was introduced
+    private void deserializeLegacyNodeList(NBTTagCompound compound) {
         NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
-        HashMap<Integer, WireProperties> readProperties = new HashMap<>();
-        HashMap<BlockPos, WireProperties> allNodes = new HashMap<>();
-        HashMap<BlockPos, Integer> blockedConnections = new HashMap<>();
-        HashSet<BlockPos> activeNodes = new HashSet<>();
+        TIntObjectMap<WireProperties> readProperties = new TIntObjectHashMap<>();
 
         for(int i = 0; i < wirePropertiesList.tagCount(); i++) {
             NBTTagCompound propertiesTag = wirePropertiesList.getCompoundTagAt(i);
@@ -293,17 +355,15 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
             int x = nodeTag.getInteger("x");
             int y = nodeTag.getInteger("y");
             int z = nodeTag.getInteger("z");
-            int wirePropertiesIndex = nodeTag.getInteger("index");
-            BlockPos blockPos = new BlockPos(x, y, z);
-            allNodes.put(blockPos, readProperties.get(wirePropertiesIndex));
-            blockedConnections.put(blockPos, nodeTag.getInteger("blocked"));
+            WireProperties wireProperties = readProperties.get(nodeTag.getInteger("index"));
+            if(wireProperties == null)
+                continue; //skip nodes with corrupted properties
+            int nodeValue = packNode(getPaletteIndex(wireProperties), nodeTag.getInteger("blocked"));
             if(nodeTag.getBoolean("active")) {
-                activeNodes.add(blockPos);
+                nodeValue |= ACTIVE_NODE_FLAG;
             }
+            nodeData.put(new BlockPos(x, y, z).toLong(), nodeValue);
         }
-
-        return new Result(allNodes, blockedConnections, activeNodes);
     }
 
-
 }
@@ -0,0 +1,234 @@
+package gregtech.common.cable.net;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongByteMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongByteHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import gregtech.common.cable.RouteNode;
+import gregtech.common.cable.RoutePath;
+import gregtech.common.cable.WireProperties;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+import java.util.*;
+
+/**
+ * Shortest-loss route tree of single energy source in the energy net.
+ * Every reachable cable is stored as RouteNode pointing to previous cable on the shortest route,
+ * so paths are never copied, and tree is updated incrementally when nodes are added, removed or activated.
+ */
+class EnergyRouteTree {
+
+    private static final Comparator<RouteNode> NODE_ORDER = Comparator
+        .comparingInt((RouteNode node) -> node.totalLoss)
+        .thenComparingInt(node -> node.pathLength);
+
+    private static final byte STATE_KEPT = 1;
+    private static final byte STATE_DETACHED = 2;
+
+    private final EnergyNet energyNet;
+    private final BlockPos sourcePos;
+    private final TLongObjectMap<RouteNode> routeNodes = new TLongObjectHashMap<>();
+    private final TLongObjectMap<RoutePath> pathsByDestination = new TLongObjectHashMap<>();
+    private final PriorityQueue<RouteNode> relaxQueue = new PriorityQueue<>(NODE_ORDER);
+    private final MutableBlockPos neighbourPos = new MutableBlockPos();
+    private List<RoutePath> sortedPaths;
+
+    public EnergyRouteTree(EnergyNet energyNet, BlockPos sourcePos) {
+        this.energyNet = energyNet;
+        this.sourcePos = sourcePos.toImmutable();
+        rebuildTree();
+    }
+
+    public BlockPos getSourcePos() {
+        return sourcePos;
+    }
+
+    /**
+     * @return paths to all active nodes reachable from source, ordered by loss.
+     * First path always leads to the source node itself.
+     * Returned list is never modified afterwards, so it's safe to iterate it while net changes
+     */
+    public List<RoutePath> getPaths() {
+        if(sortedPaths == null) {
+            ArrayList<RoutePath> resultPaths = new ArrayList<>(pathsByDestination.size() + 1);
+            RouteNode sourceNode = routeNodes.get(sourcePos.toLong());
+            RoutePath sourcePath = sourceNode == null ? null : new RoutePath(sourceNode);
+            for(RoutePath routePath : pathsByDestination.valueCollection()) {
+                if(routePath.endNode != sourceNode) {
+                    resultPaths.add(routePath);
+                }
+            }
+            resultPaths.sort(RoutePath.SHORTEST_FIRST);
+            if(sourcePath != null) {
+                resultPaths.add(0, sourcePath);
+            }
+            this.sortedPaths = Collections.unmodifiableList(resultPaths);
+        }
+        return sortedPaths;
+    }
+
+    public void rebuildTree() {
+        routeNodes.clear();
+        pathsByDestination.clear();
+        this.sortedPaths = null;
+        WireProperties sourceProperties = energyNet.getNodeProperties(sourcePos);
+        if(sourceProperties == null)
+            return;
+        RouteNode sourceNode = new RouteNode(sourcePos, sourceProperties, null);
+        putRouteNode(sourceNode);
+        relaxRoutes();
+    }
+
+    public void onNodeActivated(BlockPos nodePos) {
+        RouteNode routeNode = routeNodes.get(nodePos.toLong());
+        if(routeNode != null) {
+            pathsByDestination.put(nodePos.toLong(), new RoutePath(routeNode));
+            this.sortedPaths = null;
+        }
+    }
+
+    public void onNodeDeactivated(BlockPos nodePos) {
+        if(pathsByDestination.remove(nodePos.toLong()) != null) {
+            this.sortedPaths = null;
+        }
+    }
+
+    /**
+     * Attaches newly added node to the tree and shortens routes which can go trough it now
+     */
+    public void onNodeAdded(BlockPos nodePos) {
+        RouteNode bestRoute = findShortestIncomingRoute(nodePos);
+        if(bestRoute != null) {
+            putRouteNode(bestRoute);
+            relaxRoutes();
+        }
+    }
+
+    /**
+     * Detaches subtree routed trough removed node, and reattaches its nodes
+     * using shortest routes left in the tree.
+     * Node should be already removed from the energy net when this method is called.
+     */
+    public void onNodeRemoved(BlockPos nodePos) {
+        long removedKey = nodePos.toLong();
+        if(!routeNodes.containsKey(removedKey))
+            return;
+        TLongSet detachedNodes = collectDetachedNodes(removedKey);
+        TLongIterator iterator = detachedNodes.iterator();
+        while(iterator.hasNext()) {
+            long nodeKey = iterator.next();
+            routeNodes.remove(nodeKey);
+            pathsByDestination.remove(nodeKey);
+        }
+        this.sortedPaths = null;
+
+        //detached nodes which are still in the net can be reached again trough kept neighbours
+        iterator = detachedNodes.iterator();
+        while(iterator.hasNext()) {
+            long nodeKey = iterator.next();
+            if(nodeKey == removedKey)
+                continue;
+            RouteNode bestRoute = findShortestIncomingRoute(BlockPos.fromLong(nodeKey));
+            if(bestRoute != null) {
+                putRouteNode(bestRoute);
+            }
+        }
+        relaxRoutes();
+    }
+
+    private TLongSet collectDetachedNodes(long removedKey) {
+        TLongByteMap nodeStates = new TLongByteHashMap();
+        nodeStates.put(removedKey, STATE_DETACHED);
+        TLongSet detachedNodes = new TLongHashSet();
+        detachedNodes.add(removedKey);
+        TLongArrayList walkedNodes = new TLongArrayList();
+
+        for(RouteNode routeNode : routeNodes.valueCollection()) {
+            //walk up to the first node with known state, caching all walked nodes
+            byte resultState = STATE_KEPT;
+            RouteNode currentNode = routeNode;
+            while(currentNode != null) {
+                long currentKey = currentNode.nodePos.toLong();
+                byte currentState = nodeStates.get(currentKey);
+                if(currentState != 0) {
+                    resultState = currentState;
+                    break;
+                }
+                walkedNodes.add(currentKey);
+                currentNode = currentNode.parent;
+            }
+            for(int i = 0; i < walkedNodes.size(); i++) {
+                long walkedKey = walkedNodes.get(i);
+                nodeStates.put(walkedKey, resultState);
+                if(resultState == STATE_DETACHED) {
+                    detachedNodes.add(walkedKey);
+                }
+            }
+            walkedNodes.resetQuick();
+        }
+        return detachedNodes;
+    }
+
+    private RouteNode findShortestIncomingRoute(BlockPos nodePos) {
+        WireProperties nodeProperties = energyNet.getNodeProperties(nodePos);
+        if(nodeProperties == null)
+            return null;
+        RouteNode bestParent = null;
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            //this node should accept connections from the neighbour side
+            if(!energyNet.containsNotBlocked(nodePos, facing))
+                continue;
+            neighbourPos.setPos(nodePos).move(facing);
+            RouteNode parentNode = routeNodes.get(neighbourPos.toLong());
+            if(parentNode != null && (bestParent == null ||
+                parentNode.isShorterThan(bestParent.totalLoss, bestParent.pathLength))) {
+                bestParent = parentNode;
+            }
+        }
+        if(bestParent == null)
+            return null;
+        RouteNode currentRoute = routeNodes.get(nodePos.toLong());
+        RouteNode bestRoute = new RouteNode(nodePos.toImmutable(), nodeProperties, bestParent);
+        if(currentRoute != null && !bestRoute.isShorterThan(currentRoute.totalLoss, currentRoute.pathLength))
+            return null;
+        return bestRoute;
+    }
+
+    private void putRouteNode(RouteNode routeNode) {
+        long nodeKey = routeNode.nodePos.toLong();
+        routeNodes.put(nodeKey, routeNode);
+        relaxQueue.add(routeNode);
+        if(energyNet.isNodeActive(routeNode.nodePos)) {
+            pathsByDestination.put(nodeKey, new RoutePath(routeNode));
+            this.sortedPaths = null;
+        }
+    }
+
+    private void relaxRoutes() {
+        RouteNode currentNode;
+        while((currentNode = relaxQueue.poll()) != null) {
+            if(routeNodes.get(currentNode.nodePos.toLong()) != currentNode)
+                continue; //node was already reached by shorter route
+            for(EnumFacing facing : EnumFacing.VALUES) {
+                neighbourPos.setPos(currentNode.nodePos).move(facing);
+                if(!energyNet.containsNotBlocked(neighbourPos, facing.getOpposite()))
+                    continue;
+                WireProperties neighbourProperties = energyNet.getNodeProperties(neighbourPos);
+                int neighbourLoss = currentNode.totalLoss + neighbourProperties.lossPerBlock;
+                int neighbourLength = currentNode.pathLength + 1;
+                RouteNode neighbourRoute = routeNodes.get(neighbourPos.toLong());
+                if(neighbourRoute == null || neighbourLoss < neighbourRoute.totalLoss ||
+                    (neighbourLoss == neighbourRoute.totalLoss && neighbourLength < neighbourRoute.pathLength)) {
+                    putRouteNode(new RouteNode(neighbourPos.toImmutable(), neighbourProperties, currentNode));
+                }
+            }
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package gregtech.common.cable.net;
 
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
@@ -15,6 +18,8 @@ public class WorldENet extends WorldSavedData {
     private static final String DATA_ID = "gregtech.e_net";
     private World world;
     private List<EnergyNet> energyNets = new ArrayList<>();
+    //index of all nodes in the world, so net lookup doesn't depend on amount of nets
+    private final TLongObjectMap<EnergyNet> netsByNodePos = new TLongObjectHashMap<>();
 
     public static WorldENet getWorldENet(World world) {
         WorldENet eNetWorldData = (WorldENet) world.loadData(WorldENet.class, DATA_ID);
@@ -35,30 +40,51 @@ public class WorldENet extends WorldSavedData {
     }
 
     public EnergyNet getNetFromPos(BlockPos blockPos) {
-        for(EnergyNet energyNet : energyNets) {
-            if(energyNet.containsNode(blockPos))
-                return energyNet;
-        }
-        return null;
+        return netsByNodePos.get(blockPos.toLong());
     }
 
     public void addEnergyNet(EnergyNet energyNet) {
         this.energyNets.add(energyNet);
+        indexNetNodes(energyNet);
     }
 
     public void removeEnergyNet(EnergyNet energyNet) {
         this.energyNets.remove(energyNet);
+        TLongIterator iterator = energyNet.getNodePositions().iterator();
+        while(iterator.hasNext()) {
+            onNodeRemoved(iterator.next(), energyNet);
+        }
+    }
+
+    void onNodeAdded(long nodeKey, EnergyNet energyNet) {
+        netsByNodePos.put(nodeKey, energyNet);
+    }
+
+    void onNodeRemoved(long nodeKey, EnergyNet energyNet) {
+        //node could be already moved into another net
+        if(netsByNodePos.get(nodeKey) == energyNet) {
+            netsByNodePos.remove(nodeKey);
+        }
+    }
+
+    private void indexNetNodes(EnergyNet energyNet) {
+        TLongIterator iterator = energyNet.getNodePositions().iterator();
+        while(iterator.hasNext()) {
+            onNodeAdded(iterator.next(), energyNet);
+        }
     }
 
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         this.energyNets = new ArrayList<>();
+        this.netsByNodePos.clear();
         NBTTagList allEnergyNets = nbt.getTagList("EnergyNets", NBT.TAG_COMPOUND);
         for(int i = 0; i < allEnergyNets.tagCount(); i++) {
             NBTTagCompound eNetTag = allEnergyNets.getCompoundTagAt(i);
             EnergyNet eNet = new EnergyNet(this);
             energyNets.add(eNet);
             eNet.deserializeNBT(eNetTag);
+            indexNetNodes(eNet);
         }
     }
 
@@ -16,8 +16,6 @@ import java.util.List;
 public class CableEnergyContainer implements IEnergyContainer {
 
     private final ICableTile tileEntityCable;
-    private long lastCachedPathsTime;
-    private List<RoutePath> pathsCache;
 
     public CableEnergyContainer(ICableTile tileEntityCable) {
         this.tileEntityCable = tileEntityCable;
@@ -102,17 +100,9 @@ public class CableEnergyContainer implements IEnergyContainer {
         return 0;
     }
 
-    private void recomputePaths(EnergyNet energyNet) {
-        this.lastCachedPathsTime = System.currentTimeMillis();
-        this.pathsCache = energyNet.computePatches(tileEntityCable.getCablePos());
-    }
-
     private List<RoutePath> getPaths() {
-        EnergyNet energyNet = getEnergyNet();
-        if(pathsCache == null || energyNet.getLastUpdatedTime() > lastCachedPathsTime) {
-            recomputePaths(energyNet);
-        }
-        return pathsCache;
+        //energy net caches routes and keeps them up to date by itself
+        return getEnergyNet().computePatches(tileEntityCable.getCablePos());
     }
 
     private EnergyNet getEnergyNet() {
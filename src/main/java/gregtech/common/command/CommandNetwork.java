@@ -0,0 +1,62 @@
+package gregtech.common.command;
+
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketStatistics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.fml.relauncher.Side;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+public class CommandNetwork extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "network";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.network.usage";
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        return args.length == 1 ? getListOfStringsMatchingLastWord(args, "reset") : Collections.emptyList();
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(args.length == 1 && args[0].equals("reset")) {
+            NetworkHandler.getPacketStatistics(Side.SERVER).forEach(PacketStatistics::reset);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.network.reset")
+                .setStyle(new Style().setColor(TextFormatting.GREEN)));
+            return;
+        }
+        if(args.length != 0) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.network.header")
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for(PacketStatistics statistics : NetworkHandler.getPacketStatistics(Side.SERVER)) {
+            sender.sendMessage(new TextComponentString(String.format(" %s: sent %d (%d bytes), received %d (%d bytes)",
+                statistics.getPacketName(), statistics.getSentPackets(), statistics.getSentBytes(),
+                statistics.getReceivedPackets(), statistics.getReceivedBytes())));
+        }
+    }
+}
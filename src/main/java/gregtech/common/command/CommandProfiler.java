@@ -0,0 +1,31 @@
+package gregtech.common.command;
+
+import gregtech.common.command.profiler.CommandProfilerDump;
+import gregtech.common.command.profiler.CommandProfilerStart;
+import gregtech.common.command.profiler.CommandProfilerStop;
+import net.minecraft.command.ICommandSender;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+public class CommandProfiler extends CommandTreeBase {
+
+    public CommandProfiler() {
+        addSubcommand(new CommandProfilerStart());
+        addSubcommand(new CommandProfilerStop());
+        addSubcommand(new CommandProfilerDump());
+    }
+
+    @Override
+    public String getName() {
+        return "profiler";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.usage";
+    }
+}
@@ -10,6 +10,8 @@ public class GregTechCommand extends CommandTreeBase {
 
     public GregTechCommand() {
         addSubcommand(new CommandWorldgen());
+        addSubcommand(new CommandProfiler());
+        addSubcommand(new CommandNetwork());
     }
 
     @Override
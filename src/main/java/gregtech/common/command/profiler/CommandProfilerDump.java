@@ -0,0 +1,91 @@
+package gregtech.common.command.profiler;
+
+import gregtech.api.metatileentity.MetaTileEntityProfiler;
+import gregtech.api.metatileentity.MetaTileEntityProfiler.ProfilerEntry;
+import gregtech.api.util.GTLog;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class CommandProfilerDump extends CommandBase {
+
+    private static final int DEFAULT_ENTRY_COUNT = 10;
+
+    @Override
+    public String getName() {
+        return "dump";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.dump.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(args.length > 1) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        int entryCount = args.length == 0 ? DEFAULT_ENTRY_COUNT : parseInt(args[0], 1);
+        long sampledTicks = MetaTileEntityProfiler.getSampledTicks(server.getTickCounter());
+        List<ProfilerEntry> metaTileEntityEntries = MetaTileEntityProfiler.getMetaTileEntityEntries();
+        List<ProfilerEntry> traitEntries = MetaTileEntityProfiler.getTraitEntries();
+        List<ProfilerEntry> chunkEntries = MetaTileEntityProfiler.getChunkEntries();
+        if(metaTileEntityEntries.isEmpty()) {
+            throw new CommandException("gregtech.command.profiler.dump.empty");
+        }
+
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.dump.header", sampledTicks)
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        sendEntries(sender, "gregtech.command.profiler.dump.meta_tile_entities", metaTileEntityEntries, entryCount, sampledTicks);
+        sendEntries(sender, "gregtech.command.profiler.dump.traits", traitEntries, entryCount, sampledTicks);
+        sendEntries(sender, "gregtech.command.profiler.dump.chunks", chunkEntries, entryCount, sampledTicks);
+
+        String fileName = "gregtech-profiler-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".csv";
+        File outputFile = new File(server.getFile("logs"), fileName);
+        outputFile.getParentFile().mkdirs();
+        try(PrintWriter writer = new PrintWriter(outputFile, StandardCharsets.UTF_8.name())) {
+            writer.println("category,name,total_ms,ms_per_tick,calls,us_per_call");
+            writeEntries(writer, "meta_tile_entity", metaTileEntityEntries, sampledTicks);
+            writeEntries(writer, "trait", traitEntries, sampledTicks);
+            writeEntries(writer, "chunk", chunkEntries, sampledTicks);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.dump.saved", outputFile.getPath())
+                .setStyle(new Style().setColor(TextFormatting.GREEN)));
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to write profiler results to {}", outputFile, exception);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.dump.failed")
+                .setStyle(new Style().setColor(TextFormatting.RED)));
+        }
+    }
+
+    private static void sendEntries(ICommandSender sender, String titleKey, List<ProfilerEntry> entries, int entryCount, long sampledTicks) {
+        sender.sendMessage(new TextComponentTranslation(titleKey).setStyle(new Style().setColor(TextFormatting.YELLOW)));
+        for(int i = 0; i < Math.min(entryCount, entries.size()); i++) {
+            ProfilerEntry entry = entries.get(i);
+            sender.sendMessage(new TextComponentString(String.format(" %d. %s: %.3f ms/tick, %d calls, %.2f us/call", i + 1,
+                entry.getName(), entry.getTotalNanos() / 1.0e6 / sampledTicks, entry.getCalls(), entry.getTotalNanos() / 1.0e3 / entry.getCalls())));
+        }
+    }
+
+    private static void writeEntries(PrintWriter writer, String category, List<ProfilerEntry> entries, long sampledTicks) {
+        for(ProfilerEntry entry : entries) {
+            writer.printf(Locale.ROOT, "%s,\"%s\",%.3f,%.4f,%d,%.3f%n", category, entry.getName(), entry.getTotalNanos() / 1.0e6,
+                entry.getTotalNanos() / 1.0e6 / sampledTicks, entry.getCalls(), entry.getTotalNanos() / 1.0e3 / entry.getCalls());
+        }
+    }
+}
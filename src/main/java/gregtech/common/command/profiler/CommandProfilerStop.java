@@ -0,0 +1,34 @@
+package gregtech.common.command.profiler;
+
+import gregtech.api.metatileentity.MetaTileEntityProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+public class CommandProfilerStop extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "stop";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.stop.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(!MetaTileEntityProfiler.isProfiling()) {
+            throw new CommandException("gregtech.command.profiler.not_running");
+        }
+        MetaTileEntityProfiler.stop(server.getTickCounter());
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.stop.success",
+            MetaTileEntityProfiler.getSampledTicks(server.getTickCounter()))
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
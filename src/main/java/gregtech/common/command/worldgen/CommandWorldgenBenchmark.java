@@ -0,0 +1,80 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.worldgen.generator.VeinPlanStatistics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+
+import java.util.function.Supplier;
+
+public class CommandWorldgenBenchmark extends CommandBase {
+
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int MAX_ROUNDS = 20;
+    //limits grid entries planned by single benchmark including warm up round
+    private static final int MAX_PLANNED_GRIDS = 4096;
+
+    @Override
+    public String getName() {
+        return "benchmark";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.worldgen.benchmark.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(args.length > 2) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        int gridCount = args.length >= 1 ? parseInt(args[0], 1, CommandWorldgenStats.MAX_GRID_COUNT) : CommandWorldgenStats.DEFAULT_GRID_COUNT;
+        int rounds = args.length >= 2 ? parseInt(args[1], 1, MAX_ROUNDS) : DEFAULT_ROUNDS;
+        int plannedGrids = gridCount * gridCount * (rounds + 1);
+        if(plannedGrids > MAX_PLANNED_GRIDS) {
+            throw new CommandException("gregtech.command.worldgen.benchmark.too_large", plannedGrids, MAX_PLANNED_GRIDS);
+        }
+        World world = sender.getEntityWorld();
+        int startGridX = CommandWorldgenStats.getStartGridX(sender, gridCount);
+        int startGridZ = CommandWorldgenStats.getStartGridZ(sender, gridCount);
+        Supplier<VeinPlanStatistics> planningTask = VeinPlanStatistics.prepare(world, startGridX, startGridZ, gridCount);
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.started"));
+        CommandWorldgenStats.runInBackground(server, sender, () -> runRounds(planningTask, rounds),
+            roundNanosPerGrid -> sendResults(sender, roundNanosPerGrid, gridCount));
+    }
+
+    private static double[] runRounds(Supplier<VeinPlanStatistics> planningTask, int rounds) {
+        //warm up round isn't reported
+        planningTask.get();
+        double[] roundNanosPerGrid = new double[rounds];
+        for(int round = 0; round < rounds; round++) {
+            roundNanosPerGrid[round] = planningTask.get().getNanosPerGrid();
+        }
+        return roundNanosPerGrid;
+    }
+
+    private static void sendResults(ICommandSender sender, double[] roundNanosPerGrid, int gridCount) {
+        double totalNanosPerGrid = 0.0;
+        double bestNanosPerGrid = Double.MAX_VALUE;
+        for(int round = 0; round < roundNanosPerGrid.length; round++) {
+            double nanosPerGrid = roundNanosPerGrid[round];
+            totalNanosPerGrid += nanosPerGrid;
+            bestNanosPerGrid = Math.min(bestNanosPerGrid, nanosPerGrid);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.benchmark.round",
+                round + 1, String.format("%.1f", nanosPerGrid / 1.0e3)));
+        }
+        int rounds = roundNanosPerGrid.length;
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.benchmark.result",
+            gridCount, gridCount, rounds,
+            String.format("%.1f", totalNanosPerGrid / rounds / 1.0e3),
+            String.format("%.1f", bestNanosPerGrid / 1.0e3))
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
@@ -0,0 +1,106 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import gregtech.api.worldgen.generator.GridEntryPlanner;
+import gregtech.api.worldgen.generator.VeinPlanStatistics;
+import gregtech.api.worldgen.generator.WorldGeneratorImpl;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class CommandWorldgenStats extends CommandBase {
+
+    static final int DEFAULT_GRID_COUNT = 8;
+    static final int MAX_GRID_COUNT = 32;
+    private static final int DEFAULT_ENTRY_COUNT = 10;
+
+    @Override
+    public String getName() {
+        return "stats";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.worldgen.stats.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(args.length > 2) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        int gridCount = args.length >= 1 ? parseInt(args[0], 1, MAX_GRID_COUNT) : DEFAULT_GRID_COUNT;
+        int entryCount = args.length >= 2 ? parseInt(args[1], 1) : DEFAULT_ENTRY_COUNT;
+        int startGridX = getStartGridX(sender, gridCount);
+        int startGridZ = getStartGridZ(sender, gridCount);
+        Supplier<VeinPlanStatistics> planningTask = VeinPlanStatistics.prepare(sender.getEntityWorld(), startGridX, startGridZ, gridCount);
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.started"));
+        runInBackground(server, sender, planningTask, statistics ->
+            sendStatistics(sender, statistics, gridCount, startGridX, startGridZ, entryCount));
+    }
+
+    private static void sendStatistics(ICommandSender sender, VeinPlanStatistics statistics, int gridCount, int startGridX, int startGridZ, int entryCount) {
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.header",
+            gridCount, gridCount, statistics.getChunkCount(), startGridX, startGridZ)
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.veins",
+            String.format("%.2f", statistics.getVeinsPerGrid()),
+            String.format("%.1f", statistics.getNanosPerGrid() / 1.0e3),
+            String.format("%.1f", statistics.getMaxGridNanos() / 1.0e3)));
+        List<Entry<OreDepositDefinition, Double>> oreBlocks = statistics.getOreBlocksPerChunk();
+        if(oreBlocks.isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.empty")
+                .setStyle(new Style().setColor(TextFormatting.RED)));
+            return;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.ore_blocks")
+            .setStyle(new Style().setColor(TextFormatting.YELLOW)));
+        for(int i = 0; i < Math.min(entryCount, oreBlocks.size()); i++) {
+            Entry<OreDepositDefinition, Double> entry = oreBlocks.get(i);
+            sender.sendMessage(new TextComponentString(String.format(" %d. %s: %.1f",
+                i + 1, entry.getKey().getDepositName(), entry.getValue())));
+        }
+    }
+
+    /**
+     * Runs given task on worldgen task thread, so long planning doesn't stall server tick,
+     * and passes its result to resultHandler on server thread once it's done
+     */
+    static <T> void runInBackground(MinecraftServer server, ICommandSender sender, Supplier<T> task, Consumer<T> resultHandler) {
+        GridEntryPlanner.submitTask(task).whenComplete((result, throwable) -> server.addScheduledTask(() -> {
+            if(throwable != null) {
+                GTLog.logger.error("Failed to plan ore veins for worldgen command", throwable);
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.failed")
+                    .setStyle(new Style().setColor(TextFormatting.RED)));
+                return;
+            }
+            resultHandler.accept(result);
+        }));
+    }
+
+    /**
+     * @return first grid of gridCount x gridCount region centered on grid sender is in
+     */
+    static int getStartGridX(ICommandSender sender, int gridCount) {
+        BlockPos position = sender.getPosition();
+        return Math.floorDiv(position.getX() >> 4, WorldGeneratorImpl.GRID_SIZE_X) - gridCount / 2;
+    }
+
+    static int getStartGridZ(ICommandSender sender, int gridCount) {
+        BlockPos position = sender.getPosition();
+        return Math.floorDiv(position.getZ() >> 4, WorldGeneratorImpl.GRID_SIZE_Z) - gridCount / 2;
+    }
+}
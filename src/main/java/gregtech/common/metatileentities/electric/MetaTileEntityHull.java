@@ -30,6 +30,11 @@ public class MetaTileEntityHull extends TieredMetaTileEntity {
         return new MetaTileEntityHull(metaTileEntityId, getTier());
     }
 
+    @Override
+    public boolean isIdle() {
+        return areTraitsIdle();
+    }
+
     @Override
     protected void reinitializeEnergyContainer() {
         long tierVoltage = GTValues.V[getTier()];
@@ -38,6 +38,11 @@ public class MetaTileEntityTransformer extends TieredMetaTileEntity {
         return new MetaTileEntityTransformer(metaTileEntityId, getTier());
     }
 
+    @Override
+    public boolean isIdle() {
+        return areTraitsIdle();
+    }
+
     @Override
     public NBTTagCompound writeToNBT(NBTTagCompound data) {
         super.writeToNBT(data);
@@ -146,6 +146,18 @@ public class MetaTileEntityLargeBoiler extends MultiblockWithDisplayBase {
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        if(isStructureFormed()) {
+            boolean hasWater = fluidImportInventory.drain(ModHandler.getWater(1), false) != null ||
+                fluidImportInventory.drain(ModHandler.getDistilledWater(1), false) != null;
+            hash = 31 * hash + currentTemperature;
+            hash = 31 * hash + Boolean.hashCode(hasWater);
+        }
+        return hash;
+    }
+
     @Override
     protected void updateFormedValid() {
         if(fuelBurnTicksLeft > 0) {
@@ -65,6 +65,20 @@ public class MetaTileEntityDieselEngine extends RecipeMapMultiblockController {
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        if(isStructureFormed()) {
+            FluidStack lubricantStack = importFluids.drain(Materials.Lubricant.getFluid(Integer.MAX_VALUE), false);
+            FluidStack oxygenStack = importFluids.drain(Materials.Oxygen.getFluid(Integer.MAX_VALUE), false);
+            FluidStack fuelStack = ((DieselEngineWorkableHandler) recipeMapWorkable).getFuelStack();
+            hash = 31 * hash + (lubricantStack == null ? 0 : lubricantStack.amount);
+            hash = 31 * hash + (oxygenStack == null ? 0 : oxygenStack.amount);
+            hash = 31 * hash + (fuelStack == null ? 0 : 31 * fuelStack.getFluid().hashCode() + fuelStack.amount);
+        }
+        return hash;
+    }
+
     @Override
     public boolean checkRecipe(Recipe recipe, boolean consumeIfSuccess) {
         int nextCycleIndex = currentCycle + 1;
@@ -44,6 +44,16 @@ public class MetaTileEntityDistillationTower extends RecipeMapMultiblockControll
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        if(isStructureFormed()) {
+            FluidStack stackInTank = importFluids.drain(Integer.MAX_VALUE, false);
+            hash = 31 * hash + (stackInTank == null || stackInTank.amount <= 0 ? 0 : stackInTank.getFluid().hashCode());
+        }
+        return hash;
+    }
+
     @Override
     protected BlockPattern createStructurePattern() {
         return FactoryBlockPattern.start(RIGHT, FRONT, UP)
@@ -51,6 +51,11 @@ public class MetaTileEntityElectricBlastFurnace extends RecipeMapMultiblockContr
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        return 31 * super.getDisplayTextHash() + blastFurnaceTemperature;
+    }
+
     @Override
     protected void formStructure(PatternMatchContext context) {
         super.formStructure(context);
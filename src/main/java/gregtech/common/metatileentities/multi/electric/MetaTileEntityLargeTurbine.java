@@ -123,6 +123,21 @@ public class MetaTileEntityLargeTurbine extends RecipeMapMultiblockController {
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        if(isStructureFormed()) {
+            MetaTileEntityRotorHolder rotorHolder = getAbilities(ABILITY_ROTOR_HOLDER).get(0);
+            FluidStack fuelStack = ((LargeTurbineWorkableHandler) recipeMapWorkable).getFuelStack();
+            hash = 31 * hash + (fuelStack == null ? 0 : 31 * fuelStack.getFluid().hashCode() + fuelStack.amount);
+            hash = 31 * hash + rotorHolder.getCurrentRotorSpeed();
+            hash = 31 * hash + rotorHolder.getMaxRotorSpeed();
+            hash = 31 * hash + (int) (rotorHolder.getRotorEfficiency() * 100);
+            hash = 31 * hash + (int) (rotorHolder.getRotorDurability() * 100);
+        }
+        return hash;
+    }
+
     @Override
     protected BlockPattern createStructurePattern() {
         return turbineType == null ? null :
@@ -56,6 +56,14 @@ public class MetaTileEntityMultiFurnace extends RecipeMapMultiblockController {
         super.addDisplayText(textList);
     }
 
+    @Override
+    protected int getDisplayTextHash() {
+        int hash = super.getDisplayTextHash();
+        hash = 31 * hash + heatingCoilLevel;
+        hash = 31 * hash + heatingCoilDiscount;
+        return hash;
+    }
+
     @Override
     protected void formStructure(PatternMatchContext context) {
         super.formStructure(context);
@@ -47,6 +47,11 @@ public class MetaTileEntityChest extends MetaTileEntity {
         return new MetaTileEntityChest(metaTileEntityId, material, inventorySize);
     }
 
+    @Override
+    public boolean isIdle() {
+        return true;
+    }
+
     @Override
     public String getHarvestTool() {
         return material.toString().contains("wood") ? "axe" : "pickaxe";
@@ -48,6 +48,11 @@ public class MetaTileEntityTank extends MetaTileEntity {
         return new MetaTileEntityTank(metaTileEntityId, material, tankSize);
     }
 
+    @Override
+    public boolean isIdle() {
+        return true;
+    }
+
     @Override
     public String getHarvestTool() {
         return material.toString().contains("wood") ? "axe" : "pickaxe";